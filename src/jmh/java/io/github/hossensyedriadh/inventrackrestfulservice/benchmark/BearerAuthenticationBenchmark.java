@@ -0,0 +1,53 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.authentication.bearer_authentication.service.BearerAuthenticationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BearerAuthenticationBenchmark {
+    private BearerAuthenticationService bearerAuthenticationService;
+    private Map<String, String> claims;
+    private UserDetails userDetails;
+    private String accessToken;
+
+    @Setup
+    public void setup() throws NoSuchAlgorithmException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        this.bearerAuthenticationService = new BearerAuthenticationService(null, null,
+                (RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate(), new SimpleMeterRegistry());
+        this.bearerAuthenticationService.setAccessTokenValidity(30);
+        this.bearerAuthenticationService.setRefreshTokenValidity(6);
+        ReflectionTestUtils.setField(this.bearerAuthenticationService, "audience", "https://inventrack.local");
+
+        this.claims = Map.of("username", "benchmark", "authority", "ROLE_ROOT");
+        this.userDetails = User.withUsername("benchmark").password("benchmark").authorities("ROLE_ROOT").build();
+        this.accessToken = this.bearerAuthenticationService.generateAccessToken(this.claims);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return this.bearerAuthenticationService.generateAccessToken(this.claims);
+    }
+
+    @Benchmark
+    public Boolean isAccessTokenValid() {
+        return this.bearerAuthenticationService.isAccessTokenValid(this.accessToken, this.userDetails);
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.*;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+final class Datasets {
+    static final int latestYear = 2022;
+    private static final int years = 5;
+    private static final long seed = 20220901L;
+
+    private Datasets() {
+    }
+
+    static List<FinanceRecord> financeRecords(int rows) {
+        Random random = new Random(seed);
+        List<FinanceRecord> records = new ArrayList<>(rows);
+
+        for (int i = 0; i < rows; i += 1) {
+            FinanceRecord record = new FinanceRecord();
+            record.setYear(year(random));
+            record.setMonth(1 + random.nextInt(12));
+            record.setType(random.nextInt(10) < 7 ? FinanceRecordType.SALE : FinanceRecordType.EXPENSE);
+            record.setValue(Math.round(Math.exp(4 + random.nextGaussian()) * 100) / 100.0);
+            records.add(record);
+        }
+
+        return records;
+    }
+
+    static List<PurchaseOrder> purchaseOrders(int rows) {
+        Random random = new Random(seed + 1);
+        List<PurchaseOrder> orders = new ArrayList<>(rows);
+        ProductCategory category = new ProductCategory();
+        category.setName("Electronics");
+
+        for (int i = 0; i < rows; i += 1) {
+            PurchaseOrder order = new PurchaseOrder();
+            ReflectionTestUtils.setField(order, "id", UUID.randomUUID().toString());
+            ReflectionTestUtils.setField(order, "addedOn", dateTime(random));
+            order.setProductName("Product " + i);
+            order.setCategory(category);
+            order.setQuantity(1 + random.nextInt(200));
+            order.setTotalPurchasePrice(order.getQuantity() * (5 + random.nextInt(500)));
+            order.setShippingCosts(random.nextInt(100));
+            order.setOtherCosts(random.nextInt(50));
+            order.setSellingPricePerUnit(order.getTotalPurchasePrice() / order.getQuantity() * 1.3);
+            order.setStatus(PurchaseOrderStatus.IN_STOCK);
+            order.setOrderType(PurchaseOrderType.NEW_PRODUCT);
+            orders.add(order);
+        }
+
+        return orders;
+    }
+
+    static List<Product> products(List<PurchaseOrder> purchaseOrders) {
+        List<Product> products = new ArrayList<>(purchaseOrders.size());
+
+        for (PurchaseOrder order : purchaseOrders) {
+            Product product = new Product();
+            ReflectionTestUtils.setField(product, "id", UUID.randomUUID().toString());
+            product.setProductName(order.getProductName());
+            product.setCategory(order.getCategory());
+            product.setStock(order.getQuantity());
+            product.setPrice(order.getSellingPricePerUnit());
+            product.setPurchaseOrder(order);
+            products.add(product);
+        }
+
+        return products;
+    }
+
+    static List<Sale> sales(int rows, List<Product> products) {
+        Random random = new Random(seed + 2);
+        List<Sale> sales = new ArrayList<>(rows);
+
+        Customer customer = new Customer();
+        customer.setName("Walk-in Customer");
+        customer.setPhoneNo("+8801700000000");
+        customer.setEmail("customer@inventrack.local");
+        customer.setAddress("Dhaka, Bangladesh");
+
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setName("Cash");
+
+        DeliveryMedium deliveryMedium = new DeliveryMedium();
+        deliveryMedium.setName("Pickup");
+
+        for (int i = 0; i < rows; i += 1) {
+            Sale sale = new Sale();
+            ReflectionTestUtils.setField(sale, "id", UUID.randomUUID().toString());
+            ReflectionTestUtils.setField(sale, "addedOn", dateTime(random));
+            sale.setCustomer(customer);
+            sale.setPaymentMethod(paymentMethod);
+            sale.setDeliveryMedium(deliveryMedium);
+            sale.setPaymentStatus(PaymentStatus.COMPLETED);
+            sale.setOrderStatus(random.nextInt(20) == 0 ? OrderStatus.CANCELLED : OrderStatus.CONFIRMED);
+
+            int itemCount = 1 + random.nextInt(4);
+            List<SaleItem> items = new ArrayList<>(itemCount);
+            double total = 0;
+
+            for (int j = 0; j < itemCount; j += 1) {
+                SaleItem item = new SaleItem();
+                ReflectionTestUtils.setField(item, "id", UUID.randomUUID().toString());
+                item.setProduct(products.get(popularIndex(random, products.size())));
+                item.setQuantity(1 + random.nextInt(5));
+                item.setPrice(item.getProduct().getPrice());
+                item.setSale(sale);
+                items.add(item);
+                total += item.getPrice() * item.getQuantity();
+            }
+
+            sale.setProducts(items);
+            sale.setTotalPayable(total);
+            sales.add(sale);
+        }
+
+        return sales;
+    }
+
+    static List<SaleItem> saleItems(List<Sale> sales) {
+        return sales.stream().flatMap(sale -> sale.getProducts().stream()).toList();
+    }
+
+    private static int year(Random random) {
+        return latestYear - Math.min(years - 1, (int) Math.abs(random.nextGaussian() * 1.5));
+    }
+
+    private static LocalDateTime dateTime(Random random) {
+        return LocalDateTime.of(year(random), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60));
+    }
+
+    private static int popularIndex(Random random, int size) {
+        return (int) Math.min(size - 1, Math.floor(Math.pow(random.nextDouble(), 3) * size));
+    }
+}
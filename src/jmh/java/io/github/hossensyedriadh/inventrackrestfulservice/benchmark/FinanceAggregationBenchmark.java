@@ -0,0 +1,55 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.FinanceRecord;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.FinanceRecordType;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.FinanceRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.finance.FinanceServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FinanceAggregationBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private FinanceServiceImpl financeService;
+
+    @Setup
+    public void setup() {
+        this.financeService = new FinanceServiceImpl(financeRepository(Datasets.financeRecords(this.rows)), null, null, null);
+    }
+
+    static FinanceRepository financeRepository(List<FinanceRecord> records) {
+        return InMemoryRepositories.stub(FinanceRepository.class, Map.of(
+                "findAll/0", args -> records,
+                "getExpensesByYear/1", args -> sum(records, FinanceRecordType.EXPENSE, r -> r.getYear().equals(args[0])),
+                "getExpensesByMonth/1", args -> sum(records, FinanceRecordType.EXPENSE, r -> r.getMonth().equals(args[0])),
+                "getSalesByYear/1", args -> sum(records, FinanceRecordType.SALE, r -> r.getYear().equals(args[0])),
+                "getSalesByMonth/1", args -> sum(records, FinanceRecordType.SALE, r -> r.getMonth().equals(args[0]))));
+    }
+
+    private static Double sum(List<FinanceRecord> records, FinanceRecordType type, Predicate<FinanceRecord> filter) {
+        return records.stream().filter(r -> r.getType() == type).filter(filter).mapToDouble(FinanceRecord::getValue).sum();
+    }
+
+    @Benchmark
+    public List<Integer> financeYears() {
+        return this.financeService.getFinanceYears();
+    }
+
+    @Benchmark
+    public Map<Integer, Double> costsData() {
+        return this.financeService.getCostsData();
+    }
+
+    @Benchmark
+    public Map<Integer, Double> revenueDataByYear() {
+        return this.financeService.getRevenueData(Datasets.latestYear);
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+final class InMemoryRepositories {
+    private InMemoryRepositories() {
+    }
+
+    static <T> T stub(Class<T> repositoryType, Map<String, Function<Object[], Object>> methods) {
+        return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    Function<Object[], Object> implementation = methods.get(method.getName() + "/" + method.getParameterCount());
+
+                    if (implementation != null) {
+                        return implementation.apply(args);
+                    }
+
+                    return switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> "In-memory " + repositoryType.getSimpleName();
+                        default -> throw new UnsupportedOperationException("Not stubbed: " + method);
+                    };
+                }));
+    }
+}
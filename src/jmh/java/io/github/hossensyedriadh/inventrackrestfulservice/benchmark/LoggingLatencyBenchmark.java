@@ -0,0 +1,107 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a logging call as seen by request threads, sampled so the p99 and p99.9 of each appender setup
+ * can be compared. The console is simulated by a sink that takes {@code sinkDelayMicros} per event, the way a
+ * slow terminal or a throttled container log driver would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class LoggingLatencyBenchmark {
+    @Param({"synchronous", "async-blocking", "async-never-block"})
+    public String appender;
+
+    @Param({"0", "20"})
+    public long sinkDelayMicros;
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+
+    @Setup
+    public void setup() {
+        this.loggerContext = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(this.loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+        console.setContext(this.loggerContext);
+        console.setName("CONSOLE");
+        console.setEncoder(encoder);
+        console.setOutputStream(new SlowOutputStream(TimeUnit.MICROSECONDS.toNanos(this.sinkDelayMicros)));
+        console.start();
+
+        this.logger = this.loggerContext.getLogger("benchmark");
+        this.logger.setLevel(Level.INFO);
+        this.logger.setAdditive(false);
+        this.logger.addAppender(this.appender.equals("synchronous") ? console : this.async(console));
+    }
+
+    // mirrors ASYNC_CONSOLE in logback-spring.xml with its default queue size and discarding threshold
+    private Appender<ILoggingEvent> async(Appender<ILoggingEvent> console) {
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(this.loggerContext);
+        asyncAppender.setName("ASYNC_CONSOLE");
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(1638);
+        asyncAppender.setNeverBlock(this.appender.equals("async-never-block"));
+        asyncAppender.setIncludeCallerData(false);
+        asyncAppender.addAppender(console);
+        asyncAppender.start();
+
+        return asyncAppender;
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.loggerContext.stop();
+    }
+
+    @Benchmark
+    public void info() {
+        this.logger.info("Sale {} updated by {}, {} items", "sa00000000000001", "benchmark", 3);
+    }
+
+    @Benchmark
+    public void warn() {
+        this.logger.warn("SQL budget exceeded: method={} uri={} statements={}", "GET", "/v1/sales/{id}", 61);
+    }
+
+    private static final class SlowOutputStream extends OutputStream {
+        private final long delayNanos;
+
+        private SlowOutputStream(long delayNanos) {
+            this.delayNanos = delayNanos;
+        }
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            long deadline = System.nanoTime() + this.delayNanos;
+
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Product;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Sale;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.SaleItem;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleItemRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.finance.FinanceServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ProfitAggregationBenchmark {
+    @Param({"1000", "10000"})
+    public int sales;
+
+    private FinanceServiceImpl financeService;
+
+    @Setup
+    public void setup() {
+        List<Product> products = Datasets.products(Datasets.purchaseOrders(Math.max(100, this.sales / 10)));
+        List<Sale> saleList = Datasets.sales(this.sales, products);
+        List<SaleItem> saleItems = Datasets.saleItems(saleList);
+
+        this.financeService = new FinanceServiceImpl(
+                FinanceAggregationBenchmark.financeRepository(Datasets.financeRecords(this.sales)),
+                InMemoryRepositories.stub(SaleRepository.class, Map.of("findAll/0", args -> saleList)),
+                InMemoryRepositories.stub(SaleItemRepository.class, Map.of("findAll/0", args -> saleItems)),
+                InMemoryRepositories.stub(ProductRepository.class, Map.of("findAll/0", args -> products)));
+    }
+
+    @Benchmark
+    public Map<Integer, Double> profitsData() {
+        return this.financeService.getProfitsData();
+    }
+
+    @Benchmark
+    public Map<Integer, Double> profitsDataByYear() {
+        return this.financeService.getProfitsData(Datasets.latestYear);
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.PurchaseOrder;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Sale;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.SaleItem;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.PurchaseOrderRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleItemRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.report.ReportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ReportAggregationBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ReportServiceImpl reportService;
+
+    @Setup
+    public void setup() {
+        List<PurchaseOrder> purchaseOrders = Datasets.purchaseOrders(Math.max(100, this.rows / 10));
+        List<Sale> sales = Datasets.sales(this.rows, Datasets.products(purchaseOrders));
+        List<SaleItem> saleItems = Datasets.saleItems(sales);
+
+        PurchaseOrderRepository purchaseOrderRepository = InMemoryRepositories.stub(PurchaseOrderRepository.class, Map.of(
+                "findAll/0", args -> purchaseOrders,
+                "getPurchaseOrderCount/1", args -> count(purchaseOrders, o -> o.getAddedOn().getYear() == (int) args[0]),
+                "getPurchaseOrderCount/2", args -> count(purchaseOrders, o -> o.getAddedOn().getYear() == (int) args[0]
+                        && o.getAddedOn().getMonthValue() == (int) args[1])));
+        SaleRepository saleRepository = InMemoryRepositories.stub(SaleRepository.class, Map.of(
+                "findAll/0", args -> sales,
+                "getSaleOrderCount/1", args -> count(sales, s -> s.getAddedOn().getYear() == (int) args[0]),
+                "getSaleOrderCount/2", args -> count(sales, s -> s.getAddedOn().getYear() == (int) args[0]
+                        && s.getAddedOn().getMonthValue() == (int) args[1])));
+        SaleItemRepository saleItemRepository = InMemoryRepositories.stub(SaleItemRepository.class, Map.of(
+                "getUnitsSold/1", args -> saleItems.stream().filter(i -> i.getSale().getAddedOn().getYear() == (int) args[0])
+                        .mapToInt(SaleItem::getQuantity).sum(),
+                "getUnitsSold/2", args -> saleItems.stream().filter(i -> i.getSale().getAddedOn().getYear() == (int) args[0]
+                        && i.getSale().getAddedOn().getMonthValue() == (int) args[1]).mapToInt(SaleItem::getQuantity).sum()));
+
+        this.reportService = new ReportServiceImpl(purchaseOrderRepository, saleRepository, saleItemRepository);
+    }
+
+    private static <T> Integer count(List<T> rows, Predicate<T> filter) {
+        return (int) rows.stream().filter(filter).count();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> saleOrderCount() {
+        return this.reportService.saleOrderCount();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> unitsSoldByYear() {
+        return this.reportService.unitsSold(Datasets.latestYear);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> purchaseOrderCountByYear() {
+        return this.reportService.purchaseOrderCount(Datasets.latestYear);
+    }
+}
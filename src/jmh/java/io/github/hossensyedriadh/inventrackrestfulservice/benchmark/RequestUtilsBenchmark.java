@@ -0,0 +1,44 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.utils.Generator;
+import io.github.hossensyedriadh.inventrackrestfulservice.utils.HttpUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestUtilsBenchmark {
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setup() {
+        this.request = new MockHttpServletRequest("GET", "/api/v1/sales/");
+        this.request.setRemoteAddr("10.0.0.10");
+        this.request.addHeader("X-FORWARDED-FOR", "203.0.113.42, 10.0.0.1");
+        this.request.addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+                + "(KHTML, like Gecko) Chrome/105.0.0.0 Safari/537.36");
+    }
+
+    @Benchmark
+    public String generateNumericOtp() {
+        return Generator.generateOtp(6, true);
+    }
+
+    @Benchmark
+    public String generateAlphanumericOtp() {
+        return Generator.generateOtp(8, false);
+    }
+
+    @Benchmark
+    public String parseClientAddress() {
+        return new HttpUtils(this.request).parseClientAddress();
+    }
+
+    @Benchmark
+    public HttpUtils.BrowserInfo parseBrowserInfo() {
+        return new HttpUtils(this.request).getBrowserInfo();
+    }
+}
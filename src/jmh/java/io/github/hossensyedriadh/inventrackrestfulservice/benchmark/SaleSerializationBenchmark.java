@@ -0,0 +1,70 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.jackson.JacksonConfiguration;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Sale;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaleSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private EntityModel<Map<String, Object>> page;
+
+    @Setup
+    public void setup() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.registerModule(new JacksonConfiguration().hibernate5Module());
+        this.objectMapper.registerModule(new Jackson2HalModule());
+        this.objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<Sale> sales = Datasets.sales(this.pageSize, Datasets.products(Datasets.purchaseOrders(100)));
+        List<EntityModel<Sale>> saleEntityModels = new ArrayList<>(sales.size());
+
+        for (Sale sale : sales) {
+            EntityModel<Sale> saleEntityModel = EntityModel.of(sale);
+            saleEntityModel.add(Link.of("/api/v1/sales/" + sale.getId()).withRel(IanaLinkRelations.ITEM)
+                    .withTitle("Get sale").withType("GET"));
+            saleEntityModel.add(Link.of("/api/v1/sales/").withRel(IanaLinkRelations.CREATE_FORM)
+                    .withTitle("Add sale").withType("POST"));
+            saleEntityModel.add(Link.of("/api/v1/sales/").withRel(IanaLinkRelations.EDIT_FORM)
+                    .withTitle("Update sale").withType("PUT"));
+            saleEntityModels.add(saleEntityModel);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("sales", saleEntityModels);
+        response.put("page", Map.of("size", this.pageSize, "number", 0, "totalElements", this.pageSize, "totalPages", 1));
+
+        this.page = EntityModel.of(response);
+        this.page.add(Link.of("/api/v1/sales/?page=0&size=" + this.pageSize).withSelfRel());
+    }
+
+    @Benchmark
+    public byte[] serializeSalePage() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.page);
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.benchmark;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.authentication.bearer_authentication.service.BearerAuthenticationUserDetailsService;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.User;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.Authority;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserDetailsLookupBenchmark {
+    @Param({"benchmark_user", "benchmark.user@inventrack.com"})
+    public String username;
+
+    private BearerAuthenticationUserDetailsService userDetailsService;
+
+    @Setup
+    public void setup() {
+        User user = new User();
+        user.setUsername("benchmark_user");
+        user.setPassword("benchmark");
+        user.setEnabled(true);
+        user.setAccountNotLocked(true);
+        user.setAuthority(Authority.ROLE_ROOT);
+
+        UserRepository userRepository = InMemoryRepositories.stub(UserRepository.class, Map.of(
+                "findById/1", args -> Optional.of(user),
+                "findByEmail/1", args -> Optional.of(user)));
+
+        this.userDetailsService = new BearerAuthenticationUserDetailsService(userRepository);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return this.userDetailsService.loadUserByUsername(this.username);
+    }
+}
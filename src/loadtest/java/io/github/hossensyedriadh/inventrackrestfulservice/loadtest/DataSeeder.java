@@ -0,0 +1,469 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.loadtest;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.Authority;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.FinanceRecordType;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OrderStatus;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PaymentStatus;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PurchaseOrderStatus;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PurchaseOrderType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public final class DataSeeder {
+    private static final String[] categories = {"Laptops", "Phones", "Tablets", "Monitors", "Keyboards", "Mice",
+            "Headphones", "Speakers", "Storage", "Networking", "Cameras", "Accessories"};
+    private static final String[] firstNames = {"Rahim", "Karim", "Nusrat", "Farhana", "Tanvir", "Sadia", "Imran",
+            "Ayesha", "Rafiq", "Mehjabin", "Shakil", "Tahmina", "Arif", "Sumaiya", "Hasan", "Nabila"};
+    private static final String[] lastNames = {"Ahmed", "Hossain", "Islam", "Rahman", "Chowdhury", "Khan", "Akter",
+            "Uddin", "Sarker", "Talukder", "Siddique", "Mahmud"};
+    private static final String[] paymentMethods = {"Cash", "Card", "bKash", "Bank Transfer"};
+    private static final String[] deliveryMediums = {"Pickup", "Courier", "Home Delivery"};
+    private static final String[] truncationOrder = {"finance_records", "sale_items", "sales", "product_images",
+            "products", "purchase_orders", "suppliers", "customers"};
+
+    private final Connection connection;
+    private final Options options;
+    private final Random random;
+    private final String schema;
+    private final int batchSize;
+    private final int historyDays;
+    private final boolean postgres;
+    private final LocalDate baseDate;
+
+    private DataSeeder(Connection connection, Options options) throws SQLException {
+        this.connection = connection;
+        this.options = options;
+        this.random = new Random(options.getLong("seed", 42));
+        this.schema = options.get("schema", "inventrack");
+        this.batchSize = options.getInt("batch-size", 1000);
+        this.historyDays = options.getInt("history-days", 3 * 365);
+        // dates count back from a fixed day so the same seed produces the same rows on every run
+        this.baseDate = LocalDate.parse(options.get("base-date", "2022-12-31"));
+        this.postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Options options = Options.parse(args);
+
+        try (Connection connection = DriverManager.getConnection(
+                options.get("jdbc-url", "jdbc:mysql://localhost:3306/inventrack?useSSL=false&rewriteBatchedStatements=true"),
+                options.get("username", "test"), options.get("password", "password"))) {
+            connection.setAutoCommit(false);
+            new DataSeeder(connection, options).seed();
+        }
+    }
+
+    private void seed() throws SQLException {
+        long start = System.nanoTime();
+
+        if (this.options.getBoolean("truncate", false)) {
+            this.truncate();
+        }
+
+        String username = this.seedUser();
+        this.seedReferenceData();
+
+        List<String> customers = this.seedCustomers(this.options.getInt("customers", 5000));
+        List<String> suppliers = this.seedSuppliers(this.options.getInt("suppliers", 200), username);
+        List<SeededProduct> products = this.seedProducts(this.options.getInt("products", 2000),
+                this.options.getInt("restocks", 1000), suppliers, username);
+        this.seedSales(this.options.getInt("sales", 100000), customers, products, username);
+
+        log.info("Seeding completed in {}s", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    private void truncate() throws SQLException {
+        log.warn("Deleting existing rows from {}", String.join(", ", truncationOrder));
+
+        try (Statement statement = this.connection.createStatement()) {
+            for (String table : truncationOrder) {
+                statement.executeUpdate("delete from " + this.table(table));
+            }
+        }
+
+        this.connection.commit();
+    }
+
+    private String seedUser() throws SQLException {
+        String username = this.options.get("user", "loadtest_root");
+        // drawn before the existence check, the rows seeded after it must not depend on whether the user existed
+        String profileId = this.uuid();
+
+        if (this.exists("users", "username", username)) {
+            log.info("Reusing existing user {}", username);
+            return username;
+        }
+
+        String passwordHash = new BCryptPasswordEncoder(11).encode(this.options.get("passphrase", "LoadTest#2022"));
+
+        try (Batch profiles = new Batch("profiles", "profile_id", "first_name", "last_name", "email", "user_since");
+             Batch users = new Batch("users", "username", "password", "authority", "is_enabled", "is_not_locked",
+                     "profile_reference")) {
+            profiles.add(profileId, "Load", "Test", username + "@inventrack.com", Date.valueOf(this.baseDate));
+            users.add(username, passwordHash, Authority.ROLE_ROOT, true, true, profileId);
+
+            profiles.flush();
+            users.flush();
+        }
+
+        this.connection.commit();
+        log.info("Created user {}", username);
+
+        return username;
+    }
+
+    private void seedReferenceData() throws SQLException {
+        this.seedNames("product_categories", categories);
+        this.seedNames("payment_methods", paymentMethods);
+        this.seedNames("delivery_mediums", deliveryMediums);
+        this.connection.commit();
+    }
+
+    private void seedNames(String table, String[] names) throws SQLException {
+        try (Batch batch = new Batch(table, "name")) {
+            for (String name : names) {
+                if (!this.exists(table, "name", name)) {
+                    batch.add(name);
+                }
+            }
+        }
+    }
+
+    private List<String> seedCustomers(int count) throws SQLException {
+        List<String> phones = new ArrayList<>(count);
+        Set<String> existing = this.existing("customers", "phone_no");
+
+        try (Batch customers = new Batch("customers", "name", "phone_no", "email", "address")) {
+            for (int i = 0; i < count; i += 1) {
+                String phone = String.format("+8801%09d", i);
+                String email = this.random.nextInt(10) < 7 ? "customer" + i + "@example.com" : null;
+                String address = "House " + (1 + this.random.nextInt(200)) + ", Road " + (1 + this.random.nextInt(30)) + ", Dhaka";
+                phones.add(phone);
+
+                if (!existing.contains(phone)) {
+                    customers.add(this.personName(i), phone, email, address);
+                }
+
+                if (customers.isFull()) {
+                    customers.flush();
+                    this.connection.commit();
+                }
+            }
+        }
+
+        this.connection.commit();
+        log.info("Seeded {} customers, {} already present", count, existing.size());
+
+        return phones;
+    }
+
+    private List<String> seedSuppliers(int count, String username) throws SQLException {
+        List<String> phones = new ArrayList<>(count);
+        Set<String> existing = this.existing("suppliers", "phone_no");
+
+        try (Batch suppliers = new Batch("suppliers", "name", "phone_no", "email", "address", "website", "added_on",
+                "added_by")) {
+            for (int i = 0; i < count; i += 1) {
+                String phone = String.format("+8802%09d", i);
+                Timestamp addedOn = Timestamp.valueOf(this.dateTime(this.historyDays));
+                phones.add(phone);
+
+                if (!existing.contains(phone)) {
+                    suppliers.add(lastNames[i % lastNames.length] + " Traders", phone, "sales@supplier" + i + ".example.com",
+                            "Warehouse " + i + ", Chattogram", "https://supplier" + i + ".example.com", addedOn, username);
+                }
+            }
+        }
+
+        this.connection.commit();
+        log.info("Seeded {} suppliers, {} already present", count, existing.size());
+
+        return phones;
+    }
+
+    private List<SeededProduct> seedProducts(int count, int restocks, List<String> suppliers, String username)
+            throws SQLException {
+        List<SeededProduct> products = new ArrayList<>(count);
+        Set<String> existing = this.existing("purchase_orders", "id");
+
+        try (Batch purchaseOrders = new Batch("purchase_orders", "id", "name", "category", "specifications", "quantity",
+                "total_purchase_price", "shipping_costs", "other_costs", "selling_price", "added_on", "supplier_reference",
+                "status", "type", "product_id", "added_by");
+             Batch productRows = new Batch("products", "id", "name", "category", "specifications", "stock", "price",
+                     "purchase_order_ref");
+             Batch financeRecords = new Batch("finance_records", "month", "year", "value", "record_type",
+                     "purchase_order_ref")) {
+            for (int i = 0; i < count + restocks; i += 1) {
+                boolean restock = i >= count;
+                SeededProduct product = restock ? products.get(this.popular(products.size(), 3)) : null;
+                String category = restock ? product.category : categories[this.random.nextInt(categories.length)];
+                String name = restock ? product.name : category + " Model " + i;
+                double unitCost = restock ? product.price / 1.4 : Math.round(Math.exp(3.5 + this.random.nextGaussian()) * 100) / 100.0;
+                double sellingPrice = restock ? product.price : Math.round(unitCost * (1.2 + this.random.nextDouble() * 0.4) * 100) / 100.0;
+                int quantity = 50 + this.random.nextInt(450);
+                double shippingCosts = this.random.nextInt(500);
+                double otherCosts = this.random.nextInt(200);
+                LocalDateTime addedOn = this.dateTime(this.historyDays);
+                String purchaseOrderId = this.hex(20);
+                String supplier = suppliers.get(this.popular(suppliers.size(), 2));
+                // a purchase order seeded by an earlier run brings its product and expense record with it
+                boolean seeded = existing.contains(purchaseOrderId);
+
+                if (!seeded) {
+                    purchaseOrders.add(purchaseOrderId, name, category, "Generated for load testing", quantity,
+                            unitCost * quantity, shippingCosts, otherCosts, sellingPrice, Timestamp.valueOf(addedOn), supplier,
+                            PurchaseOrderStatus.IN_STOCK, restock ? PurchaseOrderType.RESTOCK : PurchaseOrderType.NEW_PRODUCT,
+                            restock ? product.id : null, username);
+                }
+
+                if (!restock) {
+                    product = new SeededProduct(this.hex(16), name, category, sellingPrice);
+                    products.add(product);
+
+                    if (!seeded) {
+                        productRows.add(product.id, name, category, "Generated for load testing", 1_000_000, sellingPrice,
+                                purchaseOrderId);
+                    }
+                }
+
+                if (!seeded) {
+                    financeRecords.add(addedOn.getMonthValue(), addedOn.getYear(),
+                            unitCost * quantity + shippingCosts + otherCosts, FinanceRecordType.EXPENSE, purchaseOrderId);
+                }
+
+                if (purchaseOrders.isFull() || i == count + restocks - 1) {
+                    purchaseOrders.flush();
+                    productRows.flush();
+                    financeRecords.flush();
+                    this.connection.commit();
+                }
+            }
+        }
+
+        this.connection.commit();
+        log.info("Seeded {} products and {} purchase orders, {} already present", count, count + restocks, existing.size());
+
+        return products;
+    }
+
+    private void seedSales(int count, List<String> customers, List<SeededProduct> products, String username)
+            throws SQLException {
+        long items = 0;
+        Set<String> existing = this.existing("sales", "id");
+
+        try (Batch sales = new Batch("sales", "id", "total_payable", "total_due", "customer", "payment_status",
+                "payment_method", "order_status", "delivery_medium", "added_by", "added_on");
+             Batch saleItems = new Batch("sale_items", "id", "product", "quantity", "price", "sale_ref");
+             Batch financeRecords = new Batch("finance_records", "month", "year", "value", "record_type",
+                     "sale_order_ref")) {
+            for (int i = 0; i < count; i += 1) {
+                String saleId = this.hex(20);
+                LocalDateTime addedOn = this.saleDateTime();
+                int itemCount = 1 + this.popular(5, 2);
+                boolean seeded = existing.contains(saleId);
+                double totalPayable = 0;
+
+                for (int j = 0; j < itemCount; j += 1) {
+                    SeededProduct product = products.get(this.popular(products.size(), 3));
+                    int quantity = 1 + this.popular(10, 3);
+                    String saleItemId = this.uuid();
+                    totalPayable += product.price * quantity;
+
+                    if (!seeded) {
+                        saleItems.add(saleItemId, product.id, quantity, product.price, saleId);
+                    }
+                }
+
+                items += itemCount;
+
+                int outcome = this.random.nextInt(100);
+                OrderStatus orderStatus = outcome < 92 ? OrderStatus.CONFIRMED : outcome < 97 ? OrderStatus.PENDING : OrderStatus.CANCELLED;
+                PaymentStatus paymentStatus = switch (orderStatus) {
+                    case CONFIRMED -> outcome < 85 ? PaymentStatus.COMPLETED : PaymentStatus.PARTIAL;
+                    case PENDING -> PaymentStatus.PENDING;
+                    case CANCELLED -> PaymentStatus.CANCELLED;
+                };
+                double totalDue = paymentStatus == PaymentStatus.PARTIAL ? Math.round(totalPayable * 30) / 100.0
+                        : paymentStatus == PaymentStatus.PENDING ? totalPayable : 0;
+
+                String customer = customers.get(this.popular(customers.size(), 2));
+                String paymentMethod = paymentMethods[this.popular(paymentMethods.length, 2)];
+                String deliveryMedium = deliveryMediums[this.popular(deliveryMediums.length, 2)];
+
+                if (!seeded) {
+                    sales.add(saleId, totalPayable, totalDue, customer, paymentStatus, paymentMethod, orderStatus,
+                            deliveryMedium, username, Timestamp.valueOf(addedOn));
+                }
+
+                if (!seeded && orderStatus != OrderStatus.CANCELLED) {
+                    financeRecords.add(addedOn.getMonthValue(), addedOn.getYear(), totalPayable, FinanceRecordType.SALE, saleId);
+                }
+
+                if (sales.isFull() || i == count - 1) {
+                    sales.flush();
+                    saleItems.flush();
+                    financeRecords.flush();
+                    this.connection.commit();
+                }
+
+                if ((i + 1) % 100_000 == 0) {
+                    log.info("Seeded {} of {} sales", i + 1, count);
+                }
+            }
+        }
+
+        this.connection.commit();
+        log.info("Seeded {} sales with {} sale items, {} sales already present", count, items, existing.size());
+    }
+
+    private String personName(int index) {
+        return firstNames[index % firstNames.length] + " " + lastNames[(index / firstNames.length) % lastNames.length];
+    }
+
+    private LocalDateTime saleDateTime() {
+        while (true) {
+            int daysAgo = (int) Math.min(this.historyDays - 1, -Math.log(1 - this.random.nextDouble()) * this.historyDays / 3);
+            LocalDate date = this.baseDate.minusDays(daysAgo);
+            double weight = switch (date.getMonth()) {
+                case NOVEMBER, DECEMBER -> 1.0;
+                case JUNE, JULY -> 0.8;
+                default -> 0.6;
+            };
+
+            if (this.random.nextDouble() < weight) {
+                return date.atTime(9 + this.random.nextInt(12), this.random.nextInt(60), this.random.nextInt(60));
+            }
+        }
+    }
+
+    private LocalDateTime dateTime(int withinDays) {
+        return this.baseDate.minusDays(this.random.nextInt(withinDays))
+                .atTime(9 + this.random.nextInt(9), this.random.nextInt(60), this.random.nextInt(60));
+    }
+
+    private int popular(int size, int skew) {
+        return (int) Math.min(size - 1, Math.floor(Math.pow(this.random.nextDouble(), skew) * size));
+    }
+
+    private String hex(int length) {
+        StringBuilder hex = new StringBuilder(length);
+
+        while (hex.length() < length) {
+            hex.append(Long.toHexString(this.random.nextLong() & Long.MAX_VALUE));
+        }
+
+        return hex.substring(0, length);
+    }
+
+    private String uuid() {
+        return new UUID(this.random.nextLong(), this.random.nextLong()).toString();
+    }
+
+    private String table(String name) {
+        return this.schema.isBlank() ? name : this.schema + "." + name;
+    }
+
+    private boolean exists(String table, String column, String value) throws SQLException {
+        try (PreparedStatement statement = this.connection.prepareStatement(
+                "select count(*) from " + this.table(table) + " where " + column + " = ?")) {
+            statement.setString(1, value);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getLong(1) > 0;
+            }
+        }
+    }
+
+    private Set<String> existing(String table, String column) throws SQLException {
+        Set<String> values = new HashSet<>();
+
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select " + column + " from " + this.table(table))) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+
+        return values;
+    }
+
+    private static final class SeededProduct {
+        private final String id;
+        private final String name;
+        private final String category;
+        private final double price;
+
+        private SeededProduct(String id, String name, String category, double price) {
+            this.id = id;
+            this.name = name;
+            this.category = category;
+            this.price = price;
+        }
+    }
+
+    private final class Batch implements AutoCloseable {
+        private final String table;
+        private final PreparedStatement statement;
+        private int pending;
+        private long rows;
+
+        private Batch(String table, String... columns) throws SQLException {
+            this.table = table;
+            this.statement = connection.prepareStatement("insert into " + table(table) + " (" + String.join(", ", columns)
+                    + ") values (" + "?, ".repeat(columns.length - 1) + "?)");
+        }
+
+        private void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i += 1) {
+                if (values[i] instanceof Enum<?> value) {
+                    if (postgres) {
+                        this.statement.setObject(i + 1, value.name(), Types.OTHER);
+                    } else {
+                        this.statement.setString(i + 1, value.name());
+                    }
+                } else if (values[i] == null) {
+                    this.statement.setNull(i + 1, Types.VARCHAR);
+                } else {
+                    this.statement.setObject(i + 1, values[i]);
+                }
+            }
+
+            this.statement.addBatch();
+            this.pending += 1;
+            this.rows += 1;
+        }
+
+        private boolean isFull() {
+            return this.pending >= batchSize;
+        }
+
+        private void flush() throws SQLException {
+            if (this.pending > 0) {
+                this.statement.executeBatch();
+                this.pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                this.flush();
+            } finally {
+                this.statement.close();
+                log.debug("Inserted {} rows into {}", this.rows, this.table);
+            }
+        }
+    }
+}
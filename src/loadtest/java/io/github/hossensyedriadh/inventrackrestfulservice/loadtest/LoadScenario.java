@@ -0,0 +1,415 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public final class LoadScenario {
+    private static final String[] dashboardPaths = {"/v1/finances/summary/", "/v1/finances/historical-summary",
+            "/v1/reports/sale-order-count/", "/v1/reports/units-sold/", "/v1/reports/purchase-order-count/",
+            "/v1/products/?cursor=&size=10&count=true"};
+    private static final String[] paymentMethods = {"Cash", "Card", "bKash", "Bank Transfer"};
+    private static final String[] deliveryMediums = {"Pickup", "Courier", "Home Delivery"};
+
+    private final Options options;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAccumulator peakPendingConnections = new LongAccumulator(Math::max, 0);
+
+    private LoadScenario(Options options) {
+        this.options = options;
+        this.baseUrl = options.get("base-url", "http://localhost:8080/api");
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean passed = new LoadScenario(Options.parse(args)).run();
+
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run() throws IOException, InterruptedException {
+        int users = this.options.getInt("users", 20);
+        long duration = TimeUnit.SECONDS.toNanos(this.options.getLong("duration-seconds", 300));
+        long rampUp = TimeUnit.SECONDS.toNanos(this.options.getLong("ramp-up-seconds", 30));
+
+        log.info("Running load scenario against {} with {} users for {}s", this.baseUrl, users,
+                TimeUnit.NANOSECONDS.toSeconds(duration));
+
+        Map<String, Double> acquireBefore = this.poolMeasurements("hikaricp.connections.acquire");
+        Map<String, Double> usageBefore = this.poolMeasurements("hikaricp.connections.usage");
+        ScheduledExecutorService poolSampler = Executors.newSingleThreadScheduledExecutor();
+        poolSampler.scheduleAtFixedRate(this::samplePendingConnections, 0, 1, TimeUnit.SECONDS);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(users);
+        List<Future<?>> futures = new ArrayList<>(users);
+        long start = System.nanoTime();
+        long deadline = start + duration;
+        int abortedUsers = 0;
+
+        for (int i = 0; i < users; i += 1) {
+            VirtualUser virtualUser = new VirtualUser(i);
+            long startAt = start + rampUp * i / users;
+
+            futures.add(executorService.submit(() -> {
+                virtualUser.run(startAt, deadline);
+                return null;
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("Virtual user aborted", e.getCause());
+                abortedUsers += 1;
+            }
+        }
+
+        executorService.shutdown();
+        poolSampler.shutdownNow();
+
+        long elapsed = System.nanoTime() - start;
+        ObjectNode connectionPool = this.connectionPool(acquireBefore, this.poolMeasurements("hikaricp.connections.acquire"),
+                usageBefore, this.poolMeasurements("hikaricp.connections.usage"));
+
+        return this.report(elapsed, users, abortedUsers, connectionPool);
+    }
+
+    // Hikari timers from the actuator: how long requests waited for a connection and how long they held it.
+    // Run once with spring.jpa.open-in-view=true and once without to compare pool starvation.
+    private Map<String, Double> poolMeasurements(String metric) {
+        Map<String, Double> measurements = new HashMap<>();
+
+        try {
+            HttpResponse<String> response = this.httpClient.send(HttpRequest.newBuilder(URI.create(this.baseUrl
+                    + "/actuator/metrics/" + metric)).timeout(Duration.ofSeconds(10)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() == 200) {
+                this.objectMapper.readTree(response.body()).path("measurements").forEach(measurement ->
+                        measurements.put(measurement.path("statistic").asText(), measurement.path("value").asDouble()));
+            } else {
+                log.debug("Metric {} unavailable, status: {}", metric, response.statusCode());
+            }
+        } catch (IOException e) {
+            log.debug("Metric {} unavailable: {}", metric, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return measurements;
+    }
+
+    private void samplePendingConnections() {
+        Double pending = this.poolMeasurements("hikaricp.connections.pending").get("VALUE");
+
+        if (pending != null) {
+            this.peakPendingConnections.accumulate(pending.longValue());
+        }
+    }
+
+    private ObjectNode connectionPool(Map<String, Double> acquireBefore, Map<String, Double> acquireAfter,
+                                      Map<String, Double> usageBefore, Map<String, Double> usageAfter) {
+        ObjectNode connectionPool = this.objectMapper.createObjectNode();
+
+        if (acquireAfter.isEmpty()) {
+            log.warn("Connection pool metrics unavailable, is the actuator metrics endpoint exposed?");
+            return connectionPool;
+        }
+
+        double acquisitions = acquireAfter.getOrDefault("COUNT", 0d) - acquireBefore.getOrDefault("COUNT", 0d);
+        double acquireSeconds = acquireAfter.getOrDefault("TOTAL_TIME", 0d) - acquireBefore.getOrDefault("TOTAL_TIME", 0d);
+        double usages = usageAfter.getOrDefault("COUNT", 0d) - usageBefore.getOrDefault("COUNT", 0d);
+        double usageSeconds = usageAfter.getOrDefault("TOTAL_TIME", 0d) - usageBefore.getOrDefault("TOTAL_TIME", 0d);
+
+        connectionPool.put("acquisitions", (long) acquisitions);
+        connectionPool.put("meanAcquireMillis", acquisitions > 0 ? acquireSeconds * 1000 / acquisitions : 0);
+        connectionPool.put("maxAcquireMillis", acquireAfter.getOrDefault("MAX", 0d) * 1000);
+        connectionPool.put("meanUsageMillis", usages > 0 ? usageSeconds * 1000 / usages : 0);
+        connectionPool.put("maxUsageMillis", usageAfter.getOrDefault("MAX", 0d) * 1000);
+        connectionPool.put("peakPending", this.peakPendingConnections.get());
+
+        log.info(String.format("connection pool: %d acquisitions, wait mean %.2f max %.2f ms, held mean %.2f max %.2f ms, peak pending %d",
+                (long) acquisitions, connectionPool.path("meanAcquireMillis").asDouble(),
+                connectionPool.path("maxAcquireMillis").asDouble(), connectionPool.path("meanUsageMillis").asDouble(),
+                connectionPool.path("maxUsageMillis").asDouble(), this.peakPendingConnections.get()));
+
+        return connectionPool;
+    }
+
+    private void record(String name, long startNanos, int status) {
+        this.latencies.computeIfAbsent(name, key -> new ConcurrentHistogram(3))
+                .recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+
+        if (status < 200 || status >= 400) {
+            this.errors.computeIfAbsent(name, key -> new LongAdder()).increment();
+        }
+    }
+
+    private boolean report(long elapsedNanos, int users, int abortedUsers, ObjectNode connectionPool) throws IOException {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        long maxP95Millis = this.options.getLong("max-p95-millis", 2000);
+        double maxErrorRate = Double.parseDouble(this.options.get("max-error-rate", "0.01"));
+        // a user that gave up stopped generating load, the latencies of the others no longer describe the scenario
+        boolean passed = abortedUsers == 0;
+
+        if (abortedUsers > 0) {
+            log.warn("{} of {} virtual users aborted", abortedUsers, users);
+        }
+
+        ObjectNode result = this.objectMapper.createObjectNode();
+        result.put("finishedAt", LocalDateTime.now().toString());
+        result.put("baseUrl", this.baseUrl);
+        result.put("users", users);
+        result.put("abortedUsers", abortedUsers);
+        result.put("durationSeconds", elapsedSeconds);
+        result.set("connectionPool", connectionPool);
+        ObjectNode requests = result.putObject("requests");
+
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(this.latencies).entrySet()) {
+            Histogram histogram = entry.getValue();
+            long count = histogram.getTotalCount();
+            long failed = this.errors.containsKey(entry.getKey()) ? this.errors.get(entry.getKey()).sum() : 0;
+            double p95Millis = histogram.getValueAtPercentile(95) / 1000.0;
+
+            ObjectNode request = requests.putObject(entry.getKey());
+            request.put("count", count);
+            request.put("errors", failed);
+            request.put("throughputPerSecond", count / elapsedSeconds);
+            request.put("p50Millis", histogram.getValueAtPercentile(50) / 1000.0);
+            request.put("p90Millis", histogram.getValueAtPercentile(90) / 1000.0);
+            request.put("p95Millis", p95Millis);
+            request.put("p99Millis", histogram.getValueAtPercentile(99) / 1000.0);
+            request.put("maxMillis", histogram.getMaxValue() / 1000.0);
+
+            log.info(String.format("%-45s %8d req %6d err %8.1f req/s  p50 %8.1f  p95 %8.1f  p99 %8.1f  max %8.1f ms",
+                    entry.getKey(), count, failed, count / elapsedSeconds, histogram.getValueAtPercentile(50) / 1000.0,
+                    p95Millis, histogram.getValueAtPercentile(99) / 1000.0, histogram.getMaxValue() / 1000.0));
+
+            if ((maxP95Millis > 0 && p95Millis > maxP95Millis) || (count > 0 && (double) failed / count > maxErrorRate)) {
+                log.warn("{} exceeded its budget, p95: {}ms (max {}ms), errors: {} of {}", entry.getKey(), p95Millis,
+                        maxP95Millis, failed, count);
+                passed = false;
+            }
+        }
+
+        result.put("passed", passed);
+
+        Path resultFile = Path.of(this.options.get("result-file", "target/loadtest-result.json"));
+
+        if (resultFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        }
+
+        this.objectMapper.writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), result);
+        log.info("Results written to {}", resultFile.toAbsolutePath());
+
+        return passed;
+    }
+
+    private final class VirtualUser {
+        private final Random random;
+        private final List<JsonNode> products = new ArrayList<>();
+        private String accessToken;
+
+        private VirtualUser(int index) {
+            this.random = new Random(options.getLong("seed", 42) + index);
+        }
+
+        private void run(long startAt, long deadline) throws IOException, InterruptedException {
+            TimeUnit.NANOSECONDS.sleep(startAt - System.nanoTime());
+
+            this.login();
+            this.loadProducts();
+
+            int dashboardShare = options.getInt("dashboard-percent", 40);
+            int browseShare = options.getInt("browse-percent", 45);
+            long thinkTimeMillis = options.getLong("think-time-ms", 1000);
+
+            while (System.nanoTime() < deadline) {
+                int action = this.random.nextInt(100);
+
+                if (action < dashboardShare) {
+                    this.dashboard();
+                } else if (action < dashboardShare + browseShare) {
+                    this.browse();
+                } else {
+                    this.createSale();
+                }
+
+                TimeUnit.MILLISECONDS.sleep((long) (-Math.log(1 - this.random.nextDouble()) * thinkTimeMillis));
+            }
+        }
+
+        private void login() throws IOException, InterruptedException {
+            ObjectNode body = objectMapper.createObjectNode();
+            body.put("username", options.get("username", "loadtest_root"));
+            body.put("passphrase", options.get("passphrase", "LoadTest#2022"));
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/authentication/"))
+                    .timeout(Duration.ofSeconds(30)).header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))).build();
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            record("POST /v1/authentication/", start, response.statusCode());
+
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Authentication failed with status " + response.statusCode());
+            }
+
+            this.accessToken = objectMapper.readTree(response.body()).path("access_token").asText();
+        }
+
+        private void loadProducts() throws IOException, InterruptedException {
+            JsonNode page = this.get("GET /v1/products/?cursor", "/v1/products/?cursor=&size=50");
+
+            if (page != null) {
+                page.path("products").forEach(this.products::add);
+            }
+        }
+
+        private void dashboard() {
+            long start = System.nanoTime();
+            List<CompletableFuture<?>> futures = new ArrayList<>(dashboardPaths.length);
+
+            for (String path : dashboardPaths) {
+                long requestStart = System.nanoTime();
+                String name = "GET " + (path.contains("?") ? path.substring(0, path.indexOf('?')) + "?cursor" : path);
+
+                futures.add(httpClient.sendAsync(this.request(path).GET().build(), HttpResponse.BodyHandlers.discarding())
+                        .handle((response, throwable) -> {
+                            record(name, requestStart, throwable == null ? response.statusCode() : 0);
+                            return null;
+                        }));
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            record("dashboard", start, 200);
+        }
+
+        private void browse() throws IOException, InterruptedException {
+            JsonNode page = this.get("GET /v1/sales/?cursor", "/v1/sales/?cursor=&size=20");
+            String next = page == null ? null : page.path("page").path("next").asText(null);
+
+            if (next != null && this.random.nextBoolean()) {
+                this.get("GET /v1/sales/?cursor", "/v1/sales/?cursor=" + URLEncoder.encode(next, StandardCharsets.UTF_8)
+                        + "&size=20");
+            }
+
+            this.get("GET /v1/products/?page", "/v1/products/?page=" + this.random.nextInt(10) + "&size=20");
+        }
+
+        private void createSale() throws IOException, InterruptedException {
+            if (this.products.isEmpty()) {
+                return;
+            }
+
+            ObjectNode sale = objectMapper.createObjectNode();
+            ArrayNode items = sale.putArray("products");
+            double totalPayable = 0;
+
+            for (int i = 0, count = 1 + this.random.nextInt(3); i < count; i += 1) {
+                JsonNode product = this.products.get(this.random.nextInt(this.products.size()));
+                int quantity = 1 + this.random.nextInt(3);
+                double price = product.path("price").asDouble();
+
+                ObjectNode item = items.addObject();
+                item.putObject("product").put("id", product.path("id").asText());
+                item.put("quantity", quantity);
+                item.put("price", price);
+                totalPayable += price * quantity;
+            }
+
+            int customer = this.random.nextInt(options.getInt("customers", 5000));
+            ObjectNode customerNode = sale.putObject("customer");
+            customerNode.put("name", "Load Test Customer");
+            customerNode.put("phoneNo", String.format("+8801%09d", customer));
+            customerNode.put("email", "customer" + customer + "@example.com");
+            customerNode.put("address", "House 1, Road 1, Dhaka");
+
+            sale.put("totalPayable", totalPayable);
+            sale.put("totalDue", 0);
+            sale.put("paymentStatus", "COMPLETED");
+            sale.putObject("paymentMethod").put("name", paymentMethods[this.random.nextInt(paymentMethods.length)]);
+            sale.put("orderStatus", "CONFIRMED");
+            sale.putObject("deliveryMedium").put("name", deliveryMediums[this.random.nextInt(deliveryMediums.length)]);
+
+            this.send("POST /v1/sales/", this.request("/v1/sales/").header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(sale))));
+        }
+
+        private JsonNode get(String name, String path) throws IOException, InterruptedException {
+            HttpResponse<String> response = this.send(name, this.request(path).GET());
+
+            return response != null && response.statusCode() == 200 ? objectMapper.readTree(response.body()) : null;
+        }
+
+        private HttpResponse<String> send(String name, HttpRequest.Builder builder) throws IOException, InterruptedException {
+            long start = System.nanoTime();
+
+            try {
+                HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+
+                if (response.statusCode() == 401) {
+                    this.login();
+                    start = System.nanoTime();
+                    response = httpClient.send(builder.setHeader("Authorization", "Bearer " + this.accessToken).build(),
+                            HttpResponse.BodyHandlers.ofString());
+                }
+
+                record(name, start, response.statusCode());
+
+                return response;
+            } catch (IOException e) {
+                log.debug("{} failed: {}", name, e.getMessage());
+                record(name, start, 0);
+
+                return null;
+            }
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/hal+json, application/json")
+                    .header("Authorization", "Bearer " + this.accessToken);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+final class Options {
+    private final Map<String, String> values = new HashMap<>();
+
+    private Options() {
+    }
+
+    static Options parse(String[] args) {
+        Options options = new Options();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, found: " + arg);
+            }
+
+            int separator = arg.indexOf('=');
+            String value = arg.substring(separator + 1);
+
+            if (!value.isBlank()) {
+                options.values.put(arg.substring(2, separator), value);
+            }
+        }
+
+        return options;
+    }
+
+    String get(String key, String defaultValue) {
+        return this.values.getOrDefault(key, defaultValue);
+    }
+
+    int getInt(String key, int defaultValue) {
+        return this.values.containsKey(key) ? Integer.parseInt(this.values.get(key)) : defaultValue;
+    }
+
+    long getLong(String key, long defaultValue) {
+        return this.values.containsKey(key) ? Long.parseLong(this.values.get(key)) : defaultValue;
+    }
+
+    boolean getBoolean(String key, boolean defaultValue) {
+        return this.values.containsKey(key) ? Boolean.parseBoolean(this.values.get(key)) : defaultValue;
+    }
+}
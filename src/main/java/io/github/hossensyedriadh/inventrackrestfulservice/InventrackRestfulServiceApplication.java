@@ -4,9 +4,11 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
 @EnableAsync
+@EnableScheduling
 @EnableWebMvc
 @EnableJpaRepositories(basePackages = {"io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa"})
 @SpringBootApplication
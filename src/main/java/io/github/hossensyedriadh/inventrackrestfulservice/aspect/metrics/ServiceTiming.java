@@ -0,0 +1,57 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.aspect.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+public class ServiceTiming {
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ServiceTiming(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("execution(public * io.github.hossensyedriadh.inventrackrestfulservice.service..*ServiceImpl.*(..))")
+    public void executeForAllServices() {
+    }
+
+    @Around("executeForAllServices()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(this.timers.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                    method -> this.timer(joinPoint, "none")));
+
+            return result;
+        } catch (Throwable throwable) {
+            // failures are rare enough to look their timer up through the registry
+            sample.stop(this.timer(joinPoint, throwable.getClass().getSimpleName()));
+            throw throwable;
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String exception) {
+        return Timer.builder("inventrack.service")
+                .description("Time taken by service layer methods")
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(this.meterRegistry);
+    }
+}
@@ -1,6 +1,6 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.authentication.bearer_authentication.bearer_token;
 
-import lombok.extern.log4j.Log4j;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,7 +13,7 @@ import java.security.cert.CertificateException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 
-@Log4j
+@Slf4j
 @Configuration
 public class BearerTokenConfiguration {
     @Value("${bearer-authentication.keystore.location}")
@@ -36,20 +36,16 @@ public class BearerTokenConfiguration {
             keyStore.load(resourceStream, this.keyStorePassphrase.toCharArray());
             return keyStore;
         } catch (KeyStoreException e) {
-            e.printStackTrace();
-            log.error("Unable to load keystore: {}", e);
+            log.error("Unable to load keystore", e);
             throw new RuntimeException("Unable to load keystore", e);
         } catch (CertificateException e) {
-            e.printStackTrace();
-            log.error("Invalid Certificate: {}", e);
+            log.error("Invalid Certificate", e);
             throw new RuntimeException("Invalid Certificate", e);
         } catch (IOException e) {
-            e.printStackTrace();
-            log.error("IO exception: {}", e);
+            log.error("IO exception", e);
             throw new RuntimeException("IO exception", e);
         } catch (NoSuchAlgorithmException e) {
-            e.printStackTrace();
-            log.error("Algorithm not found: {}", e);
+            log.error("Algorithm not found", e);
             throw new RuntimeException("Algorithm not found", e);
         }
     }
@@ -63,16 +59,13 @@ public class BearerTokenConfiguration {
                 return (RSAPrivateKey) key;
             }
         } catch (UnrecoverableKeyException e) {
-            e.printStackTrace();
-            log.error("Unrecoverable key exception: {}", e);
+            log.error("Unrecoverable key exception", e);
             throw new RuntimeException("Unrecoverable key", e);
         } catch (KeyStoreException e) {
-            e.printStackTrace();
-            log.error("Keystore exception: {}", e);
+            log.error("Keystore exception", e);
             throw new RuntimeException("Bad keystore", e);
         } catch (NoSuchAlgorithmException e) {
-            e.printStackTrace();
-            log.error("Algorithm not found: {}", e);
+            log.error("Algorithm not found", e);
             throw new RuntimeException("Algorithm not found", e);
         }
 
@@ -89,8 +82,7 @@ public class BearerTokenConfiguration {
                 return (RSAPublicKey) publicKey;
             }
         } catch (KeyStoreException e) {
-            e.printStackTrace();
-            log.error("Keystore exception: {}", e);
+            log.error("Keystore exception", e);
             throw new RuntimeException("Bad Keystore", e);
         }
 
@@ -5,6 +5,7 @@ import io.github.hossensyedriadh.inventrackrestfulservice.exception.ExpiredAcces
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.GenericErrorResponse;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.InvalidAccessTokenException;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.MalformedTokenException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -24,6 +25,7 @@ import java.time.ZoneId;
 import java.util.Date;
 import java.util.Locale;
 
+@Slf4j
 @Component
 public class ExceptionFilter extends OncePerRequestFilter {
     /**
@@ -66,7 +68,7 @@ public class ExceptionFilter extends OncePerRequestFilter {
             String json = jsonMapper.writeValueAsString(errorResponse);
             response.getWriter().write(json);
         } catch (IOException e) {
-            e.printStackTrace();
+            log.warn("Failed to write error response: {}", e.getMessage());
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
         }
     }
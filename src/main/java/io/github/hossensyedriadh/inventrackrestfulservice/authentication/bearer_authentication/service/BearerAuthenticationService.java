@@ -7,7 +7,9 @@ import io.github.hossensyedriadh.inventrackrestfulservice.entity.RefreshToken;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.User;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.RefreshTokenRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.UserRepository;
-import lombok.extern.log4j.Log4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -27,22 +29,36 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 
-@Log4j
+@Slf4j
 @Service
 public class BearerAuthenticationService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final RSAPublicKey rsaPublicKey;
     private final RSAPrivateKey rsaPrivateKey;
+    private final Timer accessTokenMintTimer;
+    private final Timer refreshTokenMintTimer;
+    private final Timer accessTokenVerifyTimer;
+    private final Timer refreshTokenVerifyTimer;
 
     @Autowired
     public BearerAuthenticationService(RefreshTokenRepository refreshTokenRepository,
                                        UserRepository userRepository, RSAPublicKey rsaPublicKey,
-                                       RSAPrivateKey rsaPrivateKey) {
+                                       RSAPrivateKey rsaPrivateKey, MeterRegistry meterRegistry) {
         this.refreshTokenRepository = refreshTokenRepository;
         this.userRepository = userRepository;
         this.rsaPublicKey = rsaPublicKey;
         this.rsaPrivateKey = rsaPrivateKey;
+
+        this.accessTokenMintTimer = this.tokenTimer("inventrack.token.mint", "access", meterRegistry);
+        this.refreshTokenMintTimer = this.tokenTimer("inventrack.token.mint", "refresh", meterRegistry);
+        this.accessTokenVerifyTimer = this.tokenTimer("inventrack.token.verify", "access", meterRegistry);
+        this.refreshTokenVerifyTimer = this.tokenTimer("inventrack.token.verify", "refresh", meterRegistry);
+    }
+
+    private Timer tokenTimer(String name, String type, MeterRegistry meterRegistry) {
+        return Timer.builder(name).tag("type", type).description("Time taken to sign or verify a bearer token")
+                .publishPercentileHistogram().register(meterRegistry);
     }
 
     private final String tokenIssuer = "https://inventrack-restful-service.herokuapp.com";
@@ -69,29 +85,33 @@ public class BearerAuthenticationService {
     }
 
     public String generateAccessToken(Map<String, String> claims) {
-        Calendar calendar = Calendar.getInstance(Locale.ENGLISH);
-        calendar.setTimeInMillis(Instant.now().toEpochMilli());
-        calendar.add(Calendar.MINUTE, this.accessTokenValidity);
+        return this.accessTokenMintTimer.record(() -> {
+            Calendar calendar = Calendar.getInstance(Locale.ENGLISH);
+            calendar.setTimeInMillis(Instant.now().toEpochMilli());
+            calendar.add(Calendar.MINUTE, this.accessTokenValidity);
 
-        JWTCreator.Builder accessTokenBuilder = JWT.create().withSubject(this.accessTokenSubject).withIssuer(this.tokenIssuer)
-                .withAudience(this.audience);
-        claims.forEach(accessTokenBuilder::withClaim);
+            JWTCreator.Builder accessTokenBuilder = JWT.create().withSubject(this.accessTokenSubject).withIssuer(this.tokenIssuer)
+                    .withAudience(this.audience);
+            claims.forEach(accessTokenBuilder::withClaim);
 
-        return accessTokenBuilder.withNotBefore(new Date()).withIssuedAt(new Date())
-                .withExpiresAt(calendar.getTime()).sign(Algorithm.RSA256(this.rsaPublicKey, this.rsaPrivateKey));
+            return accessTokenBuilder.withNotBefore(new Date()).withIssuedAt(new Date())
+                    .withExpiresAt(calendar.getTime()).sign(Algorithm.RSA256(this.rsaPublicKey, this.rsaPrivateKey));
+        });
     }
 
     public Boolean isAccessTokenValid(String token, UserDetails userDetails) {
-        Jwt decodedJwt = NimbusJwtDecoder.withPublicKey(this.rsaPublicKey).build().decode(token);
+        return this.accessTokenVerifyTimer.record(() -> {
+            Jwt decodedJwt = NimbusJwtDecoder.withPublicKey(this.rsaPublicKey).build().decode(token);
 
-        String username = decodedJwt.getClaimAsString("username");
-        String issuer = decodedJwt.getClaimAsString("iss");
-        String subject = decodedJwt.getSubject();
-        String audience = decodedJwt.getAudience() != null ? decodedJwt.getAudience().get(0) : "";
+            String username = decodedJwt.getClaimAsString("username");
+            String issuer = decodedJwt.getClaimAsString("iss");
+            String subject = decodedJwt.getSubject();
+            String audience = decodedJwt.getAudience() != null ? decodedJwt.getAudience().get(0) : "";
 
-        return username.equals(userDetails.getUsername()) && issuer.equals(this.tokenIssuer)
-                && subject.equals(this.accessTokenSubject) && audience.equals(this.audience)
-                && Objects.requireNonNull(decodedJwt.getExpiresAt()).isAfter(Instant.now());
+            return username.equals(userDetails.getUsername()) && issuer.equals(this.tokenIssuer)
+                    && subject.equals(this.accessTokenSubject) && audience.equals(this.audience)
+                    && Objects.requireNonNull(decodedJwt.getExpiresAt()).isAfter(Instant.now());
+        });
     }
 
     public String getRefreshToken(String username, Map<String, String> claims) {
@@ -123,37 +143,36 @@ public class BearerAuthenticationService {
     }
 
     public Boolean isRefreshTokenValid(String refreshToken) {
-        try {
-            Jwt decodedJwt = NimbusJwtDecoder.withPublicKey(this.rsaPublicKey).build().decode(refreshToken);
+        return this.refreshTokenVerifyTimer.record(() -> {
+            try {
+                Jwt decodedJwt = NimbusJwtDecoder.withPublicKey(this.rsaPublicKey).build().decode(refreshToken);
 
-            List<RefreshToken> tokens = refreshTokenRepository.findAll().stream()
-                    .filter(token -> token.getForUser().getUsername().equals(decodedJwt.getClaimAsString("username"))).toList();
+                List<RefreshToken> tokens = refreshTokenRepository.findAll().stream()
+                        .filter(token -> token.getForUser().getUsername().equals(decodedJwt.getClaimAsString("username"))).toList();
 
-            if (tokens.size() == 1 && decodedJwt != null) {
-                RefreshToken token = tokens.get(0);
+                if (tokens.size() == 1 && decodedJwt != null) {
+                    RefreshToken token = tokens.get(0);
 
-                if (token.getToken().equals(decodedJwt.getTokenValue())) {
-                    String audience = decodedJwt.getAudience() != null ? decodedJwt.getAudience().get(0) : "";
+                    if (token.getToken().equals(decodedJwt.getTokenValue())) {
+                        String audience = decodedJwt.getAudience() != null ? decodedJwt.getAudience().get(0) : "";
 
-                    return Objects.requireNonNull(decodedJwt.getExpiresAt()).isAfter(Instant.now())
-                            && decodedJwt.getSubject().equals(this.refreshTokenSubject)
-                            && decodedJwt.getClaimAsString("iss").equals(this.tokenIssuer)
-                            && audience.equals(this.audience);
+                        return Objects.requireNonNull(decodedJwt.getExpiresAt()).isAfter(Instant.now())
+                                && decodedJwt.getSubject().equals(this.refreshTokenSubject)
+                                && decodedJwt.getClaimAsString("iss").equals(this.tokenIssuer)
+                                && audience.equals(this.audience);
+                    }
                 }
-            }
 
-            return false;
-        } catch (Exception e) {
-            log.error(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
-            return false;
-        }
+                return false;
+            } catch (Exception e) {
+                log.error(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                return false;
+            }
+        });
     }
 
     private User getUser(String username) {
-        if (userRepository.findById(username).isPresent()) {
-            return userRepository.findById(username).get();
-        }
-        throw new UsernameNotFoundException("User not found: " + username);
+        return userRepository.findById(username).orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
 
     private String createRefreshToken(String username, Map<String, String> claims) {
@@ -167,8 +186,9 @@ public class BearerAuthenticationService {
 
         String id = UUID.randomUUID().toString();
 
-        String token = refreshTokenBuilder.withNotBefore(new Date()).withIssuedAt(new Date())
-                .withExpiresAt(calendar.getTime()).withJWTId(id).sign(Algorithm.RSA256(this.rsaPublicKey, this.rsaPrivateKey));
+        String token = this.refreshTokenMintTimer.record(() -> refreshTokenBuilder.withNotBefore(new Date())
+                .withIssuedAt(new Date()).withExpiresAt(calendar.getTime()).withJWTId(id)
+                .sign(Algorithm.RSA256(this.rsaPublicKey, this.rsaPrivateKey)));
 
         this.persistRefreshToken(username, id, token);
 
@@ -0,0 +1,63 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class HibernateCacheConfiguration {
+    private static final List<String> regions = List.of("users", "profiles", "profile-emails", "product-categories",
+            "payment-methods", "delivery-mediums", "suppliers", "customers");
+
+    @Value("${hibernate-cache.default.maximum-size}")
+    private long defaultMaximumSize;
+
+    @Value("${hibernate-cache.default.expiry-mins}")
+    private long defaultExpiryMins;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment, MeterRegistry meterRegistry) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(URI.create("inventrack-hibernate"),
+                this.getClass().getClassLoader());
+
+        for (String region : regions) {
+            long maximumSize = environment.getProperty("hibernate-cache.regions." + region + ".maximum-size",
+                    Long.class, this.defaultMaximumSize);
+            long expiryMins = environment.getProperty("hibernate-cache.regions." + region + ".expiry-mins",
+                    Long.class, this.defaultExpiryMins);
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(expiryMins)));
+            configuration.setStatisticsEnabled(true);
+
+            Cache<Object, Object> cache = cacheManager.getCache(region) != null
+                    ? cacheManager.getCache(region) : cacheManager.createCache(region, configuration);
+            JCacheMetrics.monitor(meterRegistry, cache);
+        }
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -8,72 +8,132 @@ import com.oracle.bmc.objectstorage.ObjectStorageClient;
 import com.oracle.bmc.objectstorage.requests.PutObjectRequest;
 import com.oracle.bmc.objectstorage.transfer.UploadConfiguration;
 import com.oracle.bmc.objectstorage.transfer.UploadManager;
-import lombok.extern.log4j.Log4j;
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage.BlobStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
-@Log4j
+@Slf4j
 @Component
 @PropertySource("classpath:application.properties")
-public class OracleCloudObjectStorage {
+@ConditionalOnProperty(name = "storage.backend", havingValue = "oci", matchIfMissing = true)
+public class OracleCloudObjectStorage implements BlobStore {
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public OracleCloudObjectStorage(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Value("${oracle-cloud.config.file-path}")
     private String configFilePath;
 
+    @Value("${oracle-cloud.region}")
+    private String region;
+
     @Value("${oracle-cloud.namespace}")
     private String namespace;
 
     @Value("${oracle-cloud.object-storage.bucket-name}")
     private String bucketName;
 
-    @SuppressWarnings("all")
-    public String uploadFile(@NonNull String folderName, @NonNull String objectName, @NonNull HashMap<String, String> fileMetadata,
-                             @NonNull MultipartFile multipartFile) {
-        fileMetadata.put("Upload Time", String.valueOf(LocalDateTime.now(ZoneId.systemDefault())
-                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a"))));
+    @Value("${oracle-cloud.object-storage.upload.threads:4}")
+    private int uploadThreads;
 
-        try {
-            File temp = new File(System.getProperty("java.io.tmpdir") + "/" + objectName);
-            multipartFile.transferTo(temp);
+    @Value("${oracle-cloud.object-storage.upload.multipart-threshold-mb:8}")
+    private int multipartThresholdMb;
+
+    @Value("${oracle-cloud.object-storage.upload.part-size-mb:8}")
+    private int partSizeMb;
+
+    private ObjectStorage storage;
+    private UploadManager uploadManager;
+    private ThreadPoolExecutor uploadExecutor;
+
+    @PostConstruct
+    protected void initialize() throws IOException {
+        final ConfigFileReader.ConfigFile configFile = ConfigFileReader.parse(this.configFilePath);
+        final ConfigFileAuthenticationDetailsProvider authenticationDetailsProvider = new ConfigFileAuthenticationDetailsProvider(configFile);
 
-            final ConfigFileReader.ConfigFile configFile = ConfigFileReader.parse(this.configFilePath);
-            final ConfigFileAuthenticationDetailsProvider authenticationDetailsProvider = new ConfigFileAuthenticationDetailsProvider(configFile);
+        this.storage = new ObjectStorageClient(authenticationDetailsProvider);
+        this.storage.setRegion(Region.fromRegionId(this.region));
 
-            try (ObjectStorage storage = new ObjectStorageClient(authenticationDetailsProvider)) {
-                storage.setRegion(Region.AP_SINGAPORE_1);
+        UploadConfiguration uploadConfiguration = UploadConfiguration.builder()
+                .allowMultipartUploads(true).allowParallelUploads(true)
+                .minimumLengthForMultipartUpload(this.multipartThresholdMb)
+                .lengthPerUploadPart(this.partSizeMb).build();
 
-                UploadConfiguration uploadConfiguration = UploadConfiguration.builder()
-                        .allowMultipartUploads(true).allowParallelUploads(false).build();
+        this.uploadManager = new UploadManager(this.storage, uploadConfiguration);
 
-                UploadManager uploadManager = new UploadManager(storage, uploadConfiguration);
+        this.uploadExecutor = new ThreadPoolExecutor(this.uploadThreads, this.uploadThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(this.uploadThreads * 4), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.uploadExecutor.allowCoreThreadTimeOut(true);
+        new ExecutorServiceMetrics(this.uploadExecutor, "oci-multipart-upload", Tags.empty()).bindTo(this.meterRegistry);
+    }
+
+    @PreDestroy
+    protected void shutdown() throws Exception {
+        this.uploadExecutor.shutdown();
 
-                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                        .bucketName(this.bucketName).namespaceName(this.namespace)
-                        .objectName(folderName + "/" + objectName).contentType(multipartFile.getContentType())
-                        .opcMeta(fileMetadata).build();
+        if (!this.uploadExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            this.uploadExecutor.shutdownNow();
+        }
+
+        this.storage.close();
+    }
 
-                UploadManager.UploadRequest uploadRequest = UploadManager.UploadRequest.builder(temp).allowOverwrite(true)
-                        .build(putObjectRequest);
-                UploadManager.UploadResponse response = uploadManager.upload(uploadRequest);
+    @Override
+    public String upload(@NonNull String folderName, @NonNull String objectName, @NonNull HashMap<String, String> fileMetadata,
+                         @NonNull InputStream inputStream, long contentLength, @Nullable String contentType) {
+        HashMap<String, String> metadata = new HashMap<>(fileMetadata);
+        metadata.put("Upload Time", String.valueOf(LocalDateTime.now(ZoneId.systemDefault())
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a"))));
+
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        String outcome = "failure";
+
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucketName(this.bucketName).namespaceName(this.namespace)
+                    .objectName(folderName + "/" + objectName).contentType(contentType)
+                    .opcMeta(metadata).build();
 
-                log.info(response.toString());
+            UploadManager.UploadRequest uploadRequest = UploadManager.UploadRequest.builder(inputStream, contentLength)
+                    .allowOverwrite(true).parallelUploadExecutorService(this.uploadExecutor).build(putObjectRequest);
+            UploadManager.UploadResponse response = this.uploadManager.upload(uploadRequest);
 
-                temp.delete();
+            log.info("{}", response);
+            outcome = "success";
 
-                return storage.getEndpoint().concat("/n/").concat(this.namespace).concat("/b/").concat(this.bucketName)
-                        .concat("/o/").concat(folderName).concat("/").concat(objectName);
-            }
+            return this.storage.getEndpoint().concat("/n/").concat(this.namespace).concat("/b/").concat(this.bucketName)
+                    .concat("/o/").concat(folderName).concat("/").concat(objectName);
         } catch (Exception e) {
-            e.printStackTrace();
             log.error("Failed to upload object to Oracle Cloud Object Storage", e);
+        } finally {
+            sample.stop(Timer.builder("inventrack.storage.upload").description("Time taken to store an object in the blob store")
+                    .tag("backend", "oci").tag("outcome", outcome)
+                    .publishPercentileHistogram().register(this.meterRegistry));
         }
 
         return null;
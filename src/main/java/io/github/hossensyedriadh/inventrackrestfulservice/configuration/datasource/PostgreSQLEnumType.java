@@ -1,6 +1,7 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource;
 
 import org.hibernate.HibernateException;
+import org.hibernate.dialect.PostgreSQL81Dialect;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.type.EnumType;
 
@@ -17,7 +18,10 @@ public class PostgreSQLEnumType extends EnumType {
     @Override
     public void nullSafeSet(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session)
             throws HibernateException, SQLException {
-        if (value == null) {
+        // plain string binding elsewhere, so the mappings also work against H2 in tests
+        if (!(session.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect)) {
+            super.nullSafeSet(st, value, index, session);
+        } else if (value == null) {
             st.setNull(index, Types.OTHER);
         } else {
             st.setObject(index, value.toString(), Types.OTHER);
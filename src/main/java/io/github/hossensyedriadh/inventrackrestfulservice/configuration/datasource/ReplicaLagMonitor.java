@@ -0,0 +1,95 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String[] lagColumns = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private final AtomicLong lagSeconds = new AtomicLong(-1);
+    private final AtomicBoolean available = new AtomicBoolean(false);
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+
+        Gauge.builder("inventrack.datasource.replica.lag", this.lagSeconds, AtomicLong::get)
+                .description("Replication lag of the read replica in seconds, -1 when unknown")
+                .baseUnit("seconds").register(meterRegistry);
+        Gauge.builder("inventrack.datasource.replica.available", this.available, flag -> flag.get() ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return this.available.get();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${spring.datasource.replica.lag-check-interval-millis:5000}")
+    public void checkReplicaLag() {
+        long lag;
+
+        try {
+            lag = this.measureLag();
+        } catch (SQLException e) {
+            log.warn("Failed to measure replica lag: {}", e.getMessage());
+            lag = -1;
+        }
+
+        this.lagSeconds.set(lag);
+
+        boolean usable = lag >= 0 && lag <= this.maxLagSeconds;
+
+        if (this.available.getAndSet(usable) != usable) {
+            if (usable) {
+                log.info("Routing read-only transactions to the replica, lag: {}s", lag);
+            } else {
+                log.warn("Routing read-only transactions to the primary, replica lag: {}s", lag);
+            }
+        }
+    }
+
+    private long measureLag() throws SQLException {
+        try (Connection connection = this.replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(this.lagQuery)) {
+            if (!resultSet.next()) {
+                return 0;
+            }
+
+            int column = this.lagColumn(resultSet.getMetaData());
+            long lag = resultSet.getLong(column);
+
+            return resultSet.wasNull() ? -1 : lag;
+        }
+    }
+
+    private int lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i += 1) {
+            for (String lagColumn : lagColumns) {
+                if (lagColumn.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    return i;
+                }
+            }
+        }
+
+        return 1;
+    }
+}
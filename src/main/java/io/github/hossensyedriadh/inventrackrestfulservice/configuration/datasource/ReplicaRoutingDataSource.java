@@ -0,0 +1,35 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String primary = "primary";
+    private static final String replica = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                    ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+
+        this.setTargetDataSources(Map.of(primary, primaryDataSource, replica, replicaDataSource));
+        this.setDefaultTargetDataSource(primaryDataSource);
+        this.setLenientFallback(false);
+        this.afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && this.replicaLagMonitor.isReplicaAvailable()) {
+            return replica;
+        }
+
+        return primary;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class SqlStatistics {
+    private static final ThreadLocal<SqlStatistics> current = new ThreadLocal<>();
+
+    private final int maxRecordedStatements;
+    private final Map<String, Statement> recordedStatements = new LinkedHashMap<>();
+
+    private int statements;
+    private long rows;
+    private long elapsedMillis;
+
+    private SqlStatistics(int maxRecordedStatements) {
+        this.maxRecordedStatements = maxRecordedStatements;
+    }
+
+    public static SqlStatistics begin(int maxRecordedStatements) {
+        SqlStatistics statistics = new SqlStatistics(maxRecordedStatements);
+        current.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatistics current() {
+        return current.get();
+    }
+
+    public static void end() {
+        current.remove();
+    }
+
+    void recordStatement(String sql, long elapsedMillis) {
+        this.statements += 1;
+        this.elapsedMillis += elapsedMillis;
+
+        Statement statement = this.recordedStatements.get(sql);
+
+        if (statement == null && this.recordedStatements.size() < this.maxRecordedStatements) {
+            statement = new Statement();
+            this.recordedStatements.put(sql, statement);
+        }
+
+        if (statement != null) {
+            statement.executions += 1;
+            statement.elapsedMillis += elapsedMillis;
+        }
+    }
+
+    void recordRow() {
+        this.rows += 1;
+    }
+
+    public int getStatements() {
+        return this.statements;
+    }
+
+    public long getRows() {
+        return this.rows;
+    }
+
+    public long getElapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    public Map<String, Statement> getRecordedStatements() {
+        return Collections.unmodifiableMap(this.recordedStatements);
+    }
+
+    public static final class Statement {
+        private int executions;
+        private long elapsedMillis;
+
+        public int getExecutions() {
+            return this.executions;
+        }
+
+        public long getElapsedMillis() {
+            return this.elapsedMillis;
+        }
+    }
+}
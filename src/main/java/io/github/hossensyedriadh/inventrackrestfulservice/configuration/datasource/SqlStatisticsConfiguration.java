@@ -0,0 +1,35 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "sql-budget", name = "enabled", havingValue = "true")
+public class SqlStatisticsConfiguration {
+    private static final String dataSourceBeanName = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (dataSourceBeanName.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ProxyDataSource)) {
+                    SqlStatisticsListener listener = new SqlStatisticsListener();
+
+                    return ProxyDataSourceBuilder.create(dataSource).name(beanName)
+                            .listener(listener).methodListener(listener).proxyResultSet().build();
+                }
+
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.filter;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.utils.HttpUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j(topic = "access")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+    /**
+     * Same contract as for {@code doFilter}, but guaranteed to be
+     * just invoked once per request within a single request thread.
+     * See {@link #shouldNotFilterAsyncDispatch()} for details.
+     * <p>Provides HttpServletRequest and HttpServletResponse arguments instead of the
+     * default ServletRequest and ServletResponse ones.
+     *
+     * @param request     request received
+     * @param response    response served
+     * @param filterChain chain of filters
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!log.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        CountingResponseWrapper responseWrapper = new CountingResponseWrapper(response);
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            status = response.getStatus();
+        } finally {
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            String contentLength = response.getHeader("Content-Length");
+            long size = responseWrapper.getCount() > 0 || contentLength == null
+                    ? responseWrapper.getCount() : Long.parseLong(contentLength);
+
+            log.info("requestId={} client={} method={} uri={} handler={} status={} latencyMs={} bytes={}",
+                    request.getAttribute("Request-ID"), new HttpUtils(request).parseClientAddress(), request.getMethod(),
+                    request.getRequestURI(), this.handlerName(request), status, latency, size);
+        }
+    }
+
+    private String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+
+        return handler != null ? handler.getClass().getSimpleName() : "-";
+    }
+
+    private static final class CountingResponseWrapper extends HttpServletResponseWrapper {
+        private long count;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private CountingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        private long getCount() {
+            return this.count;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (this.outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+
+                this.outputStream = new ServletOutputStream() {
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        count += 1;
+                    }
+
+                    @Override
+                    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        count += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+                };
+            }
+
+            return this.outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (this.writer == null) {
+                Writer delegate = super.getWriter();
+
+                this.writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(@NonNull char[] cbuf, int off, int len) throws IOException {
+                        delegate.write(cbuf, off, len);
+                        count += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+                });
+            }
+
+            return this.writer;
+        }
+    }
+}
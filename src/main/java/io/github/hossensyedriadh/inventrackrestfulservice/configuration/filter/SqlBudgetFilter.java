@@ -0,0 +1,144 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.filter;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource.SqlStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "sql-budget", name = "enabled", havingValue = "true")
+public class SqlBudgetFilter extends OncePerRequestFilter {
+    @Value("${sql-budget.max-statements:50}")
+    private int maxStatements;
+
+    @Value("${sql-budget.max-sql-time-millis:500}")
+    private long maxSqlTimeMillis;
+
+    @Value("${sql-budget.max-recorded-statements:20}")
+    private int maxRecordedStatements;
+
+    @Value("${sql-budget.response-headers:false}")
+    private boolean responseHeaders;
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SqlBudgetFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Same contract as for {@code doFilter}, but guaranteed to be
+     * just invoked once per request within a single request thread.
+     * See {@link #shouldNotFilterAsyncDispatch()} for details.
+     * <p>Provides HttpServletRequest and HttpServletResponse arguments instead of the
+     * default ServletRequest and ServletResponse ones.
+     *
+     * @param request     request received
+     * @param response    response served
+     * @param filterChain chain of filters
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatistics.begin(this.maxRecordedStatements);
+        long start = System.nanoTime();
+
+        try {
+            filterChain.doFilter(request, this.responseHeaders ? new SqlStatisticsResponseWrapper(response, statistics) : response);
+        } finally {
+            SqlStatistics.end();
+            this.report(request, statistics, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatistics statistics, long latency) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("inventrack.http.sql.statements").description("JDBC statements executed per request")
+                .tag("method", request.getMethod()).tag("uri", uri)
+                .publishPercentileHistogram().register(this.meterRegistry).record(statistics.getStatements());
+        DistributionSummary.builder("inventrack.http.sql.rows").description("Result set rows fetched per request")
+                .tag("method", request.getMethod()).tag("uri", uri)
+                .publishPercentileHistogram().register(this.meterRegistry).record(statistics.getRows());
+        Timer.builder("inventrack.http.sql.time").description("Time spent executing JDBC statements per request")
+                .tag("method", request.getMethod()).tag("uri", uri)
+                .publishPercentileHistogram().register(this.meterRegistry)
+                .record(statistics.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+        if (statistics.getStatements() > this.maxStatements || statistics.getElapsedMillis() > this.maxSqlTimeMillis) {
+            StringBuilder statements = new StringBuilder();
+
+            for (Map.Entry<String, SqlStatistics.Statement> entry : statistics.getRecordedStatements().entrySet()) {
+                statements.append(System.lineSeparator()).append("    ").append(entry.getValue().getExecutions())
+                        .append("x ").append(entry.getValue().getElapsedMillis()).append("ms ").append(entry.getKey());
+            }
+
+            log.warn("SQL budget exceeded: requestId={} method={} uri={} statements={} rows={} sqlMs={} latencyMs={}{}",
+                    request.getAttribute("Request-ID"), request.getMethod(), request.getRequestURI(),
+                    statistics.getStatements(), statistics.getRows(), statistics.getElapsedMillis(), latency, statements);
+        }
+    }
+
+    private static final class SqlStatisticsResponseWrapper extends HttpServletResponseWrapper {
+        private final SqlStatistics statistics;
+        private boolean headersWritten;
+
+        private SqlStatisticsResponseWrapper(HttpServletResponse response, SqlStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        private void writeHeaders() {
+            if (!this.headersWritten && !this.isCommitted()) {
+                this.setHeader("X-SQL-Statements", String.valueOf(this.statistics.getStatements()));
+                this.setHeader("X-SQL-Rows", String.valueOf(this.statistics.getRows()));
+                this.setHeader("X-SQL-Time-Millis", String.valueOf(this.statistics.getElapsedMillis()));
+            }
+
+            this.headersWritten = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            this.writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            this.writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            this.writeHeaders();
+            super.flushBuffer();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.jackson;
+
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class JacksonConfiguration implements WebMvcConfigurer {
+    @Bean
+    public Hibernate5Module hibernate5Module() {
+        Hibernate5Module module = new Hibernate5Module();
+        module.disable(Hibernate5Module.Feature.USE_TRANSIENT_ANNOTATION);
+        module.enable(Hibernate5Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS);
+        return module;
+    }
+
+    /**
+     * Extend or modify the list of converters after it has been, either
+     * {@link #configureMessageConverters(List) configured} or initialized with
+     * a default list.
+     * <p>Note that the order of converter registration is important. Especially
+     * in cases where clients accept {@link org.springframework.http.MediaType#ALL}
+     * the converters configured earlier will be preferred.
+     *
+     * @param converters the list of configured converters to be extended
+     * @since 4.1.3
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        Hibernate5Module module = this.hibernate5Module();
+
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter jacksonConverter) {
+                jacksonConverter.getObjectMapper().registerModule(module);
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.configuration.mail;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.*;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +14,7 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.core.env.Environment;
 import org.springframework.lang.NonNull;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 import org.thymeleaf.templatemode.TemplateMode;
@@ -18,13 +22,21 @@ import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.thymeleaf.templateresolver.ITemplateResolver;
 
 import java.util.Collections;
+import java.util.Properties;
 
 @Configuration
 @PropertySource("classpath:application.properties")
+@EnableConfigurationProperties(MailProperties.class)
 public class MailConfiguration implements ApplicationContextAware, EnvironmentAware {
     @Value("${spring.mail.default-encoding}")
     private String charset;
 
+    @Value("${mail.transport-pool.size:2}")
+    private int transportPoolSize;
+
+    @Value("${mail.transport-pool.max-idle-millis:60000}")
+    private long transportMaxIdleMillis;
+
     /**
      * Set the ApplicationContext that this object runs in.
      * Normally this call will be used to initialize the object.
@@ -52,6 +64,34 @@ public class MailConfiguration implements ApplicationContextAware, EnvironmentAw
     public void setEnvironment(@NonNull Environment environment) {
     }
 
+    @Bean
+    public JavaMailSenderImpl mailSender(MailProperties mailProperties, MeterRegistry meterRegistry) {
+        final MeteredJavaMailSender mailSender = new MeteredJavaMailSender(meterRegistry);
+        mailSender.setHost(mailProperties.getHost());
+
+        if (mailProperties.getPort() != null) {
+            mailSender.setPort(mailProperties.getPort());
+        }
+
+        mailSender.setUsername(mailProperties.getUsername());
+        mailSender.setPassword(mailProperties.getPassword());
+        mailSender.setProtocol(mailProperties.getProtocol());
+        mailSender.setPoolSize(this.transportPoolSize);
+        mailSender.setMaxIdleMillis(this.transportMaxIdleMillis);
+
+        if (mailProperties.getDefaultEncoding() != null) {
+            mailSender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+
+        if (!mailProperties.getProperties().isEmpty()) {
+            final Properties javaMailProperties = new Properties();
+            javaMailProperties.putAll(mailProperties.getProperties());
+            mailSender.setJavaMailProperties(javaMailProperties);
+        }
+
+        return mailSender;
+    }
+
     @Bean
     public ResourceBundleMessageSource emailMessageSource() {
         final ResourceBundleMessageSource resourceBundleMessageSource = new ResourceBundleMessageSource();
@@ -74,7 +114,8 @@ public class MailConfiguration implements ApplicationContextAware, EnvironmentAw
         templateResolver.setSuffix(".html");
         templateResolver.setTemplateMode(TemplateMode.HTML);
         templateResolver.setCharacterEncoding(this.charset);
-        templateResolver.setCacheable(false);
+        // templates are parsed once and served from the engine's cache afterwards
+        templateResolver.setCacheable(true);
 
         return templateResolver;
     }
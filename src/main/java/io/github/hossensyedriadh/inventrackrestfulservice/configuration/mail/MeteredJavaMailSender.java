@@ -0,0 +1,48 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.mail;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailException;
+
+import javax.mail.internet.MimeMessage;
+
+public class MeteredJavaMailSender extends PooledJavaMailSender {
+    private final MeterRegistry meterRegistry;
+
+    public MeteredJavaMailSender(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("inventrack.mail.connections", this, PooledJavaMailSender::getOpenConnections)
+                .description("Open connections to the SMTP server, idle or in use").register(meterRegistry);
+        Gauge.builder("inventrack.mail.connections.idle", this, PooledJavaMailSender::getIdleConnections)
+                .description("Pooled SMTP connections waiting to be reused").register(meterRegistry);
+    }
+
+    /**
+     * Actually send the given array of MimeMessages via JavaMail.
+     *
+     * @param mimeMessages     the MimeMessage objects to send
+     * @param originalMessages corresponding original message objects
+     *                         that the MimeMessages have been created from (with same array length and indices
+     *                         as the "mimeMessages" array), if any
+     * @throws MailException if sending failed
+     */
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        String outcome = "failure";
+
+        try {
+            super.doSend(mimeMessages, originalMessages);
+            outcome = "success";
+        } catch (MailException e) {
+            this.meterRegistry.counter("inventrack.mail.failures", "exception", e.getClass().getSimpleName()).increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("inventrack.mail.send").description("Time taken to deliver a batch of messages to the SMTP server")
+                    .tag("outcome", outcome).publishPercentileHistogram().register(this.meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.mail.Address;
+import javax.mail.AuthenticationFailedException;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+    private final BlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+
+    private int poolSize = 2;
+    private long maxIdleMillis = 60000;
+    private Semaphore permits = new Semaphore(this.poolSize);
+    private volatile boolean closed;
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+        this.permits = new Semaphore(poolSize);
+    }
+
+    public int getPoolSize() {
+        return this.poolSize;
+    }
+
+    public void setMaxIdleMillis(long maxIdleMillis) {
+        this.maxIdleMillis = maxIdleMillis;
+    }
+
+    public int getOpenConnections() {
+        return this.openConnections.get();
+    }
+
+    public int getIdleConnections() {
+        return this.idleTransports.size();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        try {
+            this.permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for a mail server connection", e);
+        }
+
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport pooledTransport = null;
+
+        try {
+            pooledTransport = this.borrow();
+            MailException connectionFailure = null;
+
+            for (int i = 0; i < mimeMessages.length; i += 1) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                Object originalMessage = originalMessages != null ? originalMessages[i] : mimeMessage;
+
+                if (pooledTransport == null) {
+                    failedMessages.put(originalMessage, connectionFailure);
+                    continue;
+                }
+
+                try {
+                    this.send(pooledTransport.transport, mimeMessage);
+                } catch (MessagingException e) {
+                    failedMessages.put(originalMessage, e);
+
+                    // the server dropped the connection, reconnect before the next message of the batch;
+                    // once a reconnect fails, the remaining messages fail with it
+                    if (!this.isConnected(pooledTransport)) {
+                        this.close(pooledTransport);
+                        pooledTransport = null;
+
+                        try {
+                            pooledTransport = this.connect();
+                        } catch (MailException ex) {
+                            connectionFailure = ex;
+                        }
+                    }
+                }
+            }
+        } finally {
+            if (pooledTransport != null) {
+                this.release(pooledTransport);
+            }
+
+            this.permits.release();
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * Closes pooled connections that have not been used for {@code maxIdleMillis}, so a quiet period does not
+     * keep connections open until the server times them out.
+     */
+    @Scheduled(fixedDelayString = "${mail.transport-pool.eviction-interval-millis:30000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+
+        for (PooledTransport pooledTransport : this.idleTransports) {
+            if (now - pooledTransport.lastUsed > this.maxIdleMillis && this.idleTransports.remove(pooledTransport)) {
+                this.close(pooledTransport);
+            }
+        }
+    }
+
+    private void send(Transport transport, MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+
+        if (messageId != null) {
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+
+        Address[] addresses = mimeMessage.getAllRecipients();
+        transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+    }
+
+    private PooledTransport borrow() throws MailException {
+        PooledTransport pooledTransport;
+
+        while ((pooledTransport = this.idleTransports.pollFirst()) != null) {
+            if (System.currentTimeMillis() - pooledTransport.lastUsed <= this.maxIdleMillis && this.isConnected(pooledTransport)) {
+                return pooledTransport;
+            }
+
+            this.close(pooledTransport);
+        }
+
+        return this.connect();
+    }
+
+    private PooledTransport connect() throws MailException {
+        try {
+            PooledTransport pooledTransport = new PooledTransport(this.connectTransport());
+            this.openConnections.incrementAndGet();
+            return pooledTransport;
+        } catch (AuthenticationFailedException e) {
+            throw new MailAuthenticationException(e);
+        } catch (MessagingException e) {
+            throw new MailSendException("Mail server connection failed", e);
+        }
+    }
+
+    private boolean isConnected(PooledTransport pooledTransport) {
+        try {
+            return pooledTransport.transport.isConnected();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledTransport pooledTransport) {
+        if (this.closed) {
+            this.close(pooledTransport);
+            return;
+        }
+
+        pooledTransport.lastUsed = System.currentTimeMillis();
+        // most recently used first, so surplus connections go idle and expire
+        this.idleTransports.offerFirst(pooledTransport);
+    }
+
+    private void close(PooledTransport pooledTransport) {
+        this.openConnections.decrementAndGet();
+
+        try {
+            pooledTransport.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close mail server connection: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        this.closed = true;
+
+        PooledTransport pooledTransport;
+
+        while ((pooledTransport = this.idleTransports.pollFirst()) != null) {
+            this.close(pooledTransport);
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private long lastUsed;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsed = System.currentTimeMillis();
+        }
+    }
+}
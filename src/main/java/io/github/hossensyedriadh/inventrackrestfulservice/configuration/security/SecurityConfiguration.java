@@ -58,8 +58,8 @@ public class SecurityConfiguration {
                 .and().exceptionHandling().accessDeniedHandler(this.apiAccessDeniedHandler)
                 .and().userDetailsService(this.bearerAuthenticationUserDetailsService)
                 .authorizeRequests(configurer -> configurer.antMatchers("/v1/authentication/**", "/v1/public/**",
-                                "/error", "/actuator/info", "/actuator/health", "/v3/api-docs", "/swagger-resources/**",
-                                "/swagger-resources", "/swagger-ui/**").permitAll()
+                                "/error", "/actuator/info", "/actuator/health", "/actuator/prometheus", "/v3/api-docs",
+                                "/swagger-resources/**", "/swagger-resources", "/swagger-ui/**").permitAll()
                         .anyRequest().authenticated());
 
         http.addFilterBefore(bearerAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -78,7 +78,8 @@ public class SecurityConfiguration {
                 .and().userDetailsService(this.bearerAuthenticationUserDetailsService)
                 .authorizeRequests(configurer -> configurer.antMatchers("/v1/authentication/**", "/v1/public/**",
                                 "/error", "/actuator/info", "/actuator/health", "/v3/api-docs", "/swagger-resources/**", "/swagger-resources", "/swagger-ui/**")
-                        .permitAll().anyRequest().authenticated());
+                        .permitAll().antMatchers("/actuator/prometheus").hasAuthority("ROLE_ROOT")
+                        .anyRequest().authenticated());
 
         //http.requiresChannel().anyRequest().requiresSecure();
 
@@ -0,0 +1,26 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+
+public interface BlobStore {
+    String upload(@NonNull String folderName, @NonNull String objectName, @NonNull HashMap<String, String> fileMetadata,
+                  @NonNull InputStream inputStream, long contentLength, @Nullable String contentType);
+
+    default String uploadFile(@NonNull String folderName, @NonNull String objectName, @NonNull HashMap<String, String> fileMetadata,
+                              @NonNull MultipartFile multipartFile) {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return this.upload(folderName, objectName, fileMetadata, inputStream, multipartFile.getSize(),
+                    multipartFile.getContentType());
+        } catch (IOException e) {
+            LoggerFactory.getLogger(BlobStore.class).error("Failed to read uploaded file {}", multipartFile.getOriginalFilename(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Properties;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalFileSystemStorage implements BlobStore {
+    @Value("${storage.local.root-directory}")
+    private String rootDirectory;
+
+    @Value("${storage.local.base-url}")
+    private String baseUrl;
+
+    private static final String metadataFolderName = ".metadata";
+
+    private Path root;
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public LocalFileSystemStorage(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    protected void initialize() throws IOException {
+        this.root = Paths.get(this.rootDirectory).toAbsolutePath().normalize();
+        Files.createDirectories(this.root.resolve(metadataFolderName));
+    }
+
+    public Path resolve(@NonNull String folderName, @NonNull String objectName) {
+        if (folderName.startsWith(".") || objectName.startsWith(".")) {
+            throw new IllegalArgumentException("Invalid object path: " + folderName + "/" + objectName);
+        }
+
+        Path path = this.root.resolve(folderName).resolve(objectName).normalize();
+
+        if (!path.startsWith(this.root) || path.getNameCount() != this.root.getNameCount() + 2) {
+            throw new IllegalArgumentException("Invalid object path: " + folderName + "/" + objectName);
+        }
+
+        return path;
+    }
+
+    public Properties metadata(@NonNull String folderName, @NonNull String objectName) throws IOException {
+        Path path = this.metadataPath(this.resolve(folderName, objectName));
+        Properties metadata = new Properties();
+
+        if (Files.isRegularFile(path)) {
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                metadata.load(inputStream);
+            }
+        }
+
+        return metadata;
+    }
+
+    private Path metadataPath(Path objectPath) {
+        return this.root.resolve(metadataFolderName).resolve(this.root.relativize(objectPath).getParent())
+                .resolve(objectPath.getFileName() + ".properties");
+    }
+
+    @Override
+    public String upload(@NonNull String folderName, @NonNull String objectName, @NonNull HashMap<String, String> fileMetadata,
+                         @NonNull InputStream inputStream, long contentLength, @Nullable String contentType) {
+        Properties metadata = new Properties();
+        metadata.putAll(fileMetadata);
+        metadata.put("Upload Time", String.valueOf(LocalDateTime.now(ZoneId.systemDefault())
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a"))));
+
+        if (contentType != null) {
+            metadata.put(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        String outcome = "failure";
+
+        try {
+            Path target = this.resolve(folderName, objectName);
+            Path metadataTarget = this.metadataPath(target);
+            Files.createDirectories(target.getParent());
+            Files.createDirectories(metadataTarget.getParent());
+
+            Path temp = Files.createTempFile(target.getParent(), "." + objectName, ".upload");
+            Path metadataTemp = Files.createTempFile(metadataTarget.getParent(), "." + objectName, ".upload");
+
+            try {
+                Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+
+                try (OutputStream outputStream = Files.newOutputStream(metadataTemp)) {
+                    metadata.store(outputStream, null);
+                }
+
+                Files.move(metadataTemp, metadataTarget, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+                Files.deleteIfExists(metadataTemp);
+            }
+
+            outcome = "success";
+
+            return this.baseUrl.concat("/").concat(folderName).concat("/").concat(objectName);
+        } catch (Exception e) {
+            log.error("Failed to store object in local file system storage", e);
+        } finally {
+            sample.stop(Timer.builder("inventrack.storage.upload").description("Time taken to store an object in the blob store")
+                    .tag("backend", "local").tag("outcome", outcome)
+                    .publishPercentileHistogram().register(this.meterRegistry));
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.controller.resource.v1;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.model.DashboardSnapshot;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.dashboard.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.ZoneId;
+
+@RestController
+@RequestMapping(value = "/v1/dashboard", produces = {MediaType.APPLICATION_JSON_VALUE})
+public class DashboardController {
+    private final DashboardService dashboardService;
+
+    @Autowired
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> dashboard() {
+        DashboardSnapshot snapshot = dashboardService.snapshot();
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).eTag(snapshot.getETag())
+                .lastModified(snapshot.getGeneratedAt().atZone(ZoneId.systemDefault())).body(snapshot);
+    }
+}
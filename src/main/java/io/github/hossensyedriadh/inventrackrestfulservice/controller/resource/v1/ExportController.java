@@ -0,0 +1,103 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.controller.resource.v1;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.ExportFormat;
+import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.export.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.zip.GZIPOutputStream;
+
+@PreAuthorize("hasAnyAuthority('ROLE_ROOT', 'ROLE_ADMINISTRATOR')")
+@RestController
+@RequestMapping(value = "/v1/exports")
+public class ExportController {
+    private final ExportService exportService;
+
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    private interface Export {
+        void write(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException;
+    }
+
+    @GetMapping("/sales")
+    public void sales(@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                      @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                      @RequestParam(value = "format", defaultValue = "csv") String format,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        this.export("sales", from, to, format, request, response, exportService::exportSales);
+    }
+
+    @GetMapping("/purchases")
+    public void purchases(@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                          @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                          @RequestParam(value = "format", defaultValue = "csv") String format,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        this.export("purchases", from, to, format, request, response, exportService::exportPurchaseOrders);
+    }
+
+    @GetMapping("/finances")
+    public void finances(@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                         @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                         @RequestParam(value = "format", defaultValue = "csv") String format,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        this.export("finances", from, to, format, request, response, exportService::exportFinanceRecords);
+    }
+
+    private void export(String name, LocalDate from, LocalDate to, String format, HttpServletRequest request,
+                        HttpServletResponse response, Export export) throws IOException {
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        LocalDate rangeEnd = to != null ? to : today;
+        LocalDate rangeStart = from != null ? from : rangeEnd.withDayOfYear(1);
+
+        if (rangeStart.isAfter(rangeEnd)) {
+            throw new ResourceException("Start of the date range must not be after its end", HttpStatus.BAD_REQUEST, request);
+        }
+
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResourceException("Unsupported export format: " + format + ". Supported formats are csv and ndjson",
+                    HttpStatus.BAD_REQUEST, request);
+        }
+
+        String fileName = name + "_" + rangeStart + "_" + rangeEnd + "." + exportFormat.name().toLowerCase();
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(exportFormat.getValue());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(response.getOutputStream(), 8192, true);
+            export.write(rangeStart, rangeEnd, exportFormat, gzipOutputStream);
+            gzipOutputStream.finish();
+        } else {
+            export.write(rangeStart, rangeEnd, exportFormat, response.getOutputStream());
+        }
+
+        response.flushBuffer();
+    }
+}
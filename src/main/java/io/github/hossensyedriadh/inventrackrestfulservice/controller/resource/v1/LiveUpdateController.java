@@ -0,0 +1,25 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.controller.resource.v1;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.service.live.LiveUpdateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping(value = "/v1/live-updates", produces = {MediaType.TEXT_EVENT_STREAM_VALUE})
+public class LiveUpdateController {
+    private final LiveUpdateService liveUpdateService;
+
+    @Autowired
+    public LiveUpdateController(LiveUpdateService liveUpdateService) {
+        this.liveUpdateService = liveUpdateService;
+    }
+
+    @GetMapping("/")
+    public SseEmitter liveUpdates() {
+        return liveUpdateService.subscribe();
+    }
+}
@@ -3,9 +3,11 @@ package io.github.hossensyedriadh.inventrackrestfulservice.controller.resource.v
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.DeliveryMedium;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.PaymentMethod;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.ProductCategory;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ReferenceData;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.misc.MiscService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.propertyeditors.StringTrimmerEditor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,7 +16,6 @@ import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
 
 @RestController
 @RequestMapping(value = "/v1/misc", produces = {MediaType.APPLICATION_JSON_VALUE})
@@ -34,13 +35,14 @@ public class MiscController {
 
     @GetMapping("/product-categories")
     public ResponseEntity<?> productCategories() {
-        List<ProductCategory> categories = miscService.getProductCategories();
+        ReferenceData<ProductCategory> categories = miscService.getProductCategories();
 
-        if (categories.isEmpty()) {
+        if (categories.getValues().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
 
-        return new ResponseEntity<>(categories, HttpStatus.OK);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(categories.getVersion()).body(categories.getValues());
     }
 
     @PreAuthorize("hasAnyAuthority('ROLE_ROOT', 'ROLE_ADMINISTRATOR')")
@@ -53,13 +55,14 @@ public class MiscController {
 
     @GetMapping("/payment-methods")
     public ResponseEntity<?> paymentMethods() {
-        List<PaymentMethod> methods = miscService.getPaymentMethods();
+        ReferenceData<PaymentMethod> methods = miscService.getPaymentMethods();
 
-        if (methods.isEmpty()) {
+        if (methods.getValues().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
 
-        return new ResponseEntity<>(methods, HttpStatus.OK);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(methods.getVersion()).body(methods.getValues());
     }
 
     @PreAuthorize("hasAnyAuthority('ROLE_ROOT', 'ROLE_ADMINISTRATOR')")
@@ -72,13 +75,14 @@ public class MiscController {
 
     @GetMapping("/delivery-mediums")
     public ResponseEntity<?> deliveryMediums() {
-        List<DeliveryMedium> mediums = miscService.getDeliveryMediums();
+        ReferenceData<DeliveryMedium> mediums = miscService.getDeliveryMediums();
 
-        if (mediums.isEmpty()) {
+        if (mediums.getValues().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
 
-        return new ResponseEntity<>(mediums, HttpStatus.OK);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(mediums.getVersion()).body(mediums.getValues());
     }
 
     @PreAuthorize("hasAnyAuthority('ROLE_ROOT', 'ROLE_ADMINISTRATOR')")
@@ -3,7 +3,10 @@ package io.github.hossensyedriadh.inventrackrestfulservice.controller.resource.v
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Product;
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.Authority;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPageInfo;
 import io.github.hossensyedriadh.inventrackrestfulservice.model.PageInfo;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ProductSummary;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.CurrentAuthenticationContext;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.product.ProductService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -68,7 +71,7 @@ public class ProductController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrders));
 
-        Page<Product> productPage = productService.products(pageable);
+        Page<ProductSummary> productPage = productService.products(pageable);
 
         if (productPage.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -76,22 +79,18 @@ public class ProductController {
 
         PageInfo pageInfo = new PageInfo(productPage);
 
-        List<EntityModel<Product>> productEntityModels = new ArrayList<>();
+        boolean moderator = currentAuthenticationContext.getAuthenticatedUser().getAuthority().equals(Authority.ROLE_MODERATOR);
 
-        for (int i = 0; i < productPage.getContent().size(); i += 1) {
-            Product product = productService.product(productPage.getContent().get(i).getId());
+        List<EntityModel<ProductSummary>> productEntityModels = new ArrayList<>();
 
-            if (currentAuthenticationContext.getAuthenticatedUser().getAuthority().equals(Authority.ROLE_MODERATOR)) {
-                product.setPurchaseOrder(null);
-            }
-
-            EntityModel<Product> productEntityModel = EntityModel.of(product);
+        for (ProductSummary product : productPage.getContent()) {
+            EntityModel<ProductSummary> productEntityModel = EntityModel.of(product);
 
             productEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).product(product.getId()))
                     .withRel(IanaLinkRelations.ITEM).withTitle("Get product").withType(HttpMethod.GET.toString()));
 
-            if (!currentAuthenticationContext.getAuthenticatedUser().getAuthority().equals(Authority.ROLE_MODERATOR)) {
-                productEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(product))
+            if (!moderator) {
+                productEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(new Product()))
                         .withRel(IanaLinkRelations.EDIT_FORM).withTitle("Update product").withType(HttpMethod.PATCH.toString()));
 
                 productEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).updateImages(request, product.getId(), new MultipartFile[]{}))
@@ -134,9 +133,62 @@ public class ProductController {
         return new ResponseEntity<>(responseModel, HttpStatus.OK);
     }
 
+    @GetMapping(value = "/", params = {"cursor"})
+    public ResponseEntity<?> productsByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "size", defaultValue = "10") int size,
+                                              @RequestParam(value = "count", defaultValue = "false") boolean count) {
+        CursorPage<ProductSummary> productPage = productService.products(cursor, size, count);
+
+        if (productPage.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+
+        boolean moderator = currentAuthenticationContext.getAuthenticatedUser().getAuthority().equals(Authority.ROLE_MODERATOR);
+
+        List<EntityModel<ProductSummary>> productEntityModels = new ArrayList<>();
+
+        for (ProductSummary product : productPage.getContent()) {
+            EntityModel<ProductSummary> productEntityModel = EntityModel.of(product);
+
+            productEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).product(product.getId()))
+                    .withRel(IanaLinkRelations.ITEM).withTitle("Get product").withType(HttpMethod.GET.toString()));
+
+            if (!moderator) {
+                productEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(new Product()))
+                        .withRel(IanaLinkRelations.EDIT_FORM).withTitle("Update product").withType(HttpMethod.PATCH.toString()));
+
+                productEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).updateImages(request, product.getId(), new MultipartFile[]{}))
+                        .withRel("update-images").withTitle("Update/add product images").withType(HttpMethod.POST.toString()));
+            }
+
+            productEntityModels.add(productEntityModel);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("products", productEntityModels);
+        response.put("page", new CursorPageInfo(productPage));
+
+        EntityModel<?> responseModel = EntityModel.of(response);
+
+        responseModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).productsByCursor(cursor == null ? "" : cursor,
+                        size, count)).withRel(IanaLinkRelations.SELF).withTitle("Current Page").withType(HttpMethod.GET.toString()));
+
+        if (cursor != null) {
+            responseModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).productsByCursor("", size, count))
+                    .withRel(IanaLinkRelations.FIRST).withTitle("First Page").withType(HttpMethod.GET.toString()));
+        }
+
+        if (productPage.hasNext()) {
+            responseModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).productsByCursor(productPage.getNextCursor(),
+                    size, count)).withRel(IanaLinkRelations.NEXT).withTitle("Next Page").withType(HttpMethod.GET.toString()));
+        }
+
+        return new ResponseEntity<>(responseModel, HttpStatus.OK);
+    }
+
     @GetMapping(value = "/unpaged", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<?> getProductsUnpaged() {
-        List<Product> products = productService.products();
+        List<ProductSummary> products = productService.products();
 
         if (products.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
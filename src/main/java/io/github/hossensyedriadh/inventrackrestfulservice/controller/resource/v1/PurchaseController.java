@@ -1,7 +1,10 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.controller.resource.v1;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.PurchaseOrder;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPageInfo;
 import io.github.hossensyedriadh.inventrackrestfulservice.model.PageInfo;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.PurchaseOrderSummary;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.purchase.PurchaseService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -62,7 +65,7 @@ public class PurchaseController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrders));
 
-        Page<PurchaseOrder> orderPage = purchaseService.purchaseOrders(pageable);
+        Page<PurchaseOrderSummary> orderPage = purchaseService.purchaseOrders(pageable);
 
         if (orderPage.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -70,20 +73,18 @@ public class PurchaseController {
 
         PageInfo pageInfo = new PageInfo(orderPage);
 
-        List<EntityModel<PurchaseOrder>> orderEntityModels = new ArrayList<>();
+        List<EntityModel<PurchaseOrderSummary>> orderEntityModels = new ArrayList<>();
 
-        for (int i = 0; i < orderPage.getContent().size(); i += 1) {
-            PurchaseOrder order = purchaseService.purchaseOrder(orderPage.getContent().get(i).getId());
-
-            EntityModel<PurchaseOrder> orderEntityModel = EntityModel.of(order);
+        for (PurchaseOrderSummary order : orderPage.getContent()) {
+            EntityModel<PurchaseOrderSummary> orderEntityModel = EntityModel.of(order);
 
             orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).order(order.getId()))
                     .withRel(IanaLinkRelations.ITEM).withTitle("Get order").withType(HttpMethod.GET.toString()));
 
-            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).add(order))
+            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).add(new PurchaseOrder()))
                     .withRel(IanaLinkRelations.CREATE_FORM).withTitle("Add order").withType(HttpMethod.POST.toString()));
 
-            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(null, order))
+            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(null, new PurchaseOrder()))
                     .withRel(IanaLinkRelations.EDIT_FORM).withTitle("Update order").withType(HttpMethod.PATCH.toString()));
 
             orderEntityModels.add(orderEntityModel);
@@ -127,6 +128,55 @@ public class PurchaseController {
         return new ResponseEntity<>(responseModel, HttpStatus.OK);
     }
 
+    @GetMapping(value = "/", params = {"cursor"})
+    public ResponseEntity<?> ordersByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "size", defaultValue = "10") int size,
+                                            @RequestParam(value = "count", defaultValue = "false") boolean count) {
+        CursorPage<PurchaseOrderSummary> orderPage = purchaseService.purchaseOrders(cursor, size, count);
+
+        if (orderPage.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+
+        List<EntityModel<PurchaseOrderSummary>> orderEntityModels = new ArrayList<>();
+
+        for (PurchaseOrderSummary order : orderPage.getContent()) {
+            EntityModel<PurchaseOrderSummary> orderEntityModel = EntityModel.of(order);
+
+            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).order(order.getId()))
+                    .withRel(IanaLinkRelations.ITEM).withTitle("Get order").withType(HttpMethod.GET.toString()));
+
+            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).add(new PurchaseOrder()))
+                    .withRel(IanaLinkRelations.CREATE_FORM).withTitle("Add order").withType(HttpMethod.POST.toString()));
+
+            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(null, new PurchaseOrder()))
+                    .withRel(IanaLinkRelations.EDIT_FORM).withTitle("Update order").withType(HttpMethod.PATCH.toString()));
+
+            orderEntityModels.add(orderEntityModel);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("orders", orderEntityModels);
+        response.put("page", new CursorPageInfo(orderPage));
+
+        EntityModel<?> responseModel = EntityModel.of(response);
+
+        responseModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).ordersByCursor(cursor == null ? "" : cursor,
+                        size, count)).withRel(IanaLinkRelations.SELF).withTitle("Current Page").withType(HttpMethod.GET.toString()));
+
+        if (cursor != null) {
+            responseModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).ordersByCursor("", size, count))
+                    .withRel(IanaLinkRelations.FIRST).withTitle("First Page").withType(HttpMethod.GET.toString()));
+        }
+
+        if (orderPage.hasNext()) {
+            responseModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).ordersByCursor(orderPage.getNextCursor(),
+                    size, count)).withRel(IanaLinkRelations.NEXT).withTitle("Next Page").withType(HttpMethod.GET.toString()));
+        }
+
+        return new ResponseEntity<>(responseModel, HttpStatus.OK);
+    }
+
     @GetMapping(value = "/by-supplier", params = {"supplier"})
     public ResponseEntity<?> ordersBySupplier(@RequestParam("supplier") String supplierPhone,
                                               @RequestParam(value = "page", defaultValue = "0") int page,
@@ -138,7 +188,7 @@ public class PurchaseController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrders));
 
-        Page<PurchaseOrder> orderPage = purchaseService.purchaseOrders(pageable, supplierPhone);
+        Page<PurchaseOrderSummary> orderPage = purchaseService.purchaseOrders(pageable, supplierPhone);
 
         if (orderPage.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -146,23 +196,21 @@ public class PurchaseController {
 
         PageInfo pageInfo = new PageInfo(orderPage);
 
-        List<EntityModel<PurchaseOrder>> orderEntityModels = new ArrayList<>();
-
-        for (int i = 0; i < orderPage.getContent().size(); i += 1) {
-            PurchaseOrder order = purchaseService.purchaseOrder(orderPage.getContent().get(i).getId());
+        List<EntityModel<PurchaseOrderSummary>> orderEntityModels = new ArrayList<>();
 
-            EntityModel<PurchaseOrder> orderEntityModel = EntityModel.of(order);
+        for (PurchaseOrderSummary order : orderPage.getContent()) {
+            EntityModel<PurchaseOrderSummary> orderEntityModel = EntityModel.of(order);
 
             orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).order(order.getId()))
                     .withRel(IanaLinkRelations.ITEM).withTitle("Get order").withType(HttpMethod.GET.toString()));
 
-            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).add(order))
+            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).add(new PurchaseOrder()))
                     .withRel(IanaLinkRelations.CREATE_FORM).withTitle("Add order").withType(HttpMethod.POST.toString()));
 
-            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(order))
+            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(new PurchaseOrder()))
                     .withRel(IanaLinkRelations.EDIT_FORM).withTitle("Update order").withType(HttpMethod.PUT.toString()));
 
-            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).restock(null, order))
+            orderEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).restock(null, new PurchaseOrder()))
                     .withRel("restock").withTitle("Restock Product").withType(HttpMethod.POST.toString()));
 
             orderEntityModels.add(orderEntityModel);
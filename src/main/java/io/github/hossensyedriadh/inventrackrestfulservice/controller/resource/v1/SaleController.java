@@ -1,7 +1,10 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.controller.resource.v1;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Sale;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPageInfo;
 import io.github.hossensyedriadh.inventrackrestfulservice.model.PageInfo;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.SaleSummary;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.sale.SaleService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -60,7 +63,7 @@ public class SaleController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrders));
 
-        Page<Sale> salePage = saleService.saleOrders(pageable);
+        Page<SaleSummary> salePage = saleService.saleOrders(pageable);
 
         if (salePage.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -68,12 +71,10 @@ public class SaleController {
 
         PageInfo pageInfo = new PageInfo(salePage);
 
-        List<EntityModel<Sale>> saleEntityModels = new ArrayList<>();
+        List<EntityModel<SaleSummary>> saleEntityModels = new ArrayList<>();
 
-        for (int i = 0; i < salePage.getContent().size(); i += 1) {
-            Sale sale = saleService.sale(salePage.getContent().get(i).getId());
-
-            EntityModel<Sale> saleEntityModel = EntityModel.of(sale);
+        for (SaleSummary sale : salePage.getContent()) {
+            EntityModel<SaleSummary> saleEntityModel = EntityModel.of(sale);
 
             saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass())
                             .salesByCustomer("+0123456789123", 0, size, Sale.class.getDeclaredFields()[1].getName(), sort[1]))
@@ -85,7 +86,7 @@ public class SaleController {
             saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).add(new Sale()))
                     .withRel(IanaLinkRelations.CREATE_FORM).withTitle("Add sale").withType(HttpMethod.POST.toString()));
 
-            saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(sale))
+            saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(new Sale()))
                     .withRel(IanaLinkRelations.EDIT_FORM).withTitle("Update sale").withType(HttpMethod.PUT.toString()));
 
             saleEntityModels.add(saleEntityModel);
@@ -124,6 +125,55 @@ public class SaleController {
         return new ResponseEntity<>(responseModel, HttpStatus.OK);
     }
 
+    @GetMapping(value = "/", params = {"cursor"})
+    public ResponseEntity<?> salesByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                           @RequestParam(value = "size", defaultValue = "10") int size,
+                                           @RequestParam(value = "count", defaultValue = "false") boolean count) {
+        CursorPage<SaleSummary> salePage = saleService.saleOrders(cursor, size, count);
+
+        if (salePage.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+
+        List<EntityModel<SaleSummary>> saleEntityModels = new ArrayList<>();
+
+        for (SaleSummary sale : salePage.getContent()) {
+            EntityModel<SaleSummary> saleEntityModel = EntityModel.of(sale);
+
+            saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).sale(sale.getId()))
+                    .withRel(IanaLinkRelations.ITEM).withTitle("Get sale").withType(HttpMethod.GET.toString()));
+
+            saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).add(new Sale()))
+                    .withRel(IanaLinkRelations.CREATE_FORM).withTitle("Add sale").withType(HttpMethod.POST.toString()));
+
+            saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(new Sale()))
+                    .withRel(IanaLinkRelations.EDIT_FORM).withTitle("Update sale").withType(HttpMethod.PUT.toString()));
+
+            saleEntityModels.add(saleEntityModel);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("sales", saleEntityModels);
+        response.put("page", new CursorPageInfo(salePage));
+
+        EntityModel<?> responseModel = EntityModel.of(response);
+
+        responseModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).salesByCursor(cursor == null ? "" : cursor,
+                        size, count)).withRel(IanaLinkRelations.SELF).withTitle("Current page").withType(HttpMethod.GET.toString()));
+
+        if (cursor != null) {
+            responseModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).salesByCursor("", size, count))
+                    .withRel(IanaLinkRelations.FIRST).withTitle("First page").withType(HttpMethod.GET.toString()));
+        }
+
+        if (salePage.hasNext()) {
+            responseModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).salesByCursor(salePage.getNextCursor(),
+                    size, count)).withRel(IanaLinkRelations.NEXT).withTitle("Next page").withType(HttpMethod.GET.toString()));
+        }
+
+        return new ResponseEntity<>(responseModel, HttpStatus.OK);
+    }
+
     @GetMapping(value = "/by-customer", params = {"customer"})
     public ResponseEntity<?> salesByCustomer(@RequestParam("customer") String customerPhone,
                                              @RequestParam(value = "page", defaultValue = "0") int page,
@@ -135,7 +185,7 @@ public class SaleController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrders));
 
-        Page<Sale> salePage = saleService.saleOrders(pageable, customerPhone);
+        Page<SaleSummary> salePage = saleService.saleOrders(pageable, customerPhone);
 
         if (salePage.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -143,12 +193,10 @@ public class SaleController {
 
         PageInfo pageInfo = new PageInfo(salePage);
 
-        List<EntityModel<Sale>> saleEntityModels = new ArrayList<>();
-
-        for (int i = 0; i < salePage.getContent().size(); i += 1) {
-            Sale sale = saleService.sale(salePage.getContent().get(i).getId());
+        List<EntityModel<SaleSummary>> saleEntityModels = new ArrayList<>();
 
-            EntityModel<Sale> saleEntityModel = EntityModel.of(sale);
+        for (SaleSummary sale : salePage.getContent()) {
+            EntityModel<SaleSummary> saleEntityModel = EntityModel.of(sale);
 
             saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).sale(sale.getId()))
                     .withRel(IanaLinkRelations.ITEM).withTitle("Get sale").withType(HttpMethod.GET.toString()));
@@ -156,7 +204,7 @@ public class SaleController {
             saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).add(new Sale()))
                     .withRel(IanaLinkRelations.CREATE_FORM).withTitle("Add sale").withType(HttpMethod.POST.toString()));
 
-            saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(sale))
+            saleEntityModel.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(this.getClass()).update(new Sale()))
                     .withRel(IanaLinkRelations.EDIT_FORM).withTitle("Update sale").withType(HttpMethod.PUT.toString()));
 
             saleEntityModels.add(saleEntityModel);
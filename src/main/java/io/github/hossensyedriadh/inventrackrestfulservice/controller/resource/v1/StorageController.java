@@ -0,0 +1,164 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.controller.resource.v1;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage.LocalFileSystemStorage;
+import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+
+@RestController
+@RequestMapping(value = "/v1/public/storage")
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class StorageController {
+    private final LocalFileSystemStorage localFileSystemStorage;
+
+    @Autowired
+    public StorageController(LocalFileSystemStorage localFileSystemStorage) {
+        this.localFileSystemStorage = localFileSystemStorage;
+    }
+
+    private static final String sendfileSupportAttribute = "org.apache.tomcat.sendfile.support";
+    private static final String sendfileFilenameAttribute = "org.apache.tomcat.sendfile.filename";
+    private static final String sendfileStartAttribute = "org.apache.tomcat.sendfile.start";
+    private static final String sendfileEndAttribute = "org.apache.tomcat.sendfile.end";
+
+    @GetMapping("/{folder}/{object}")
+    public void file(@PathVariable("folder") String folder, @PathVariable("object") String object,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path;
+        try {
+            path = this.localFileSystemStorage.resolve(folder, object);
+        } catch (IllegalArgumentException e) {
+            throw new ResourceException(e.getMessage(), HttpStatus.BAD_REQUEST, request);
+        }
+
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceException("Object not found: " + folder + "/" + object, HttpStatus.NOT_FOUND, request);
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=86400");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+        if (ifNoneMatch != null && (ifNoneMatch.trim().equals("*")
+                || Arrays.stream(ifNoneMatch.split(",")).map(String::trim).anyMatch(eTag::equals))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (range != null && (ifRange == null || ifRange.equals(eTag))) {
+            long[] bounds = this.parseRange(range, length);
+
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+
+            start = bounds[0];
+            end = bounds[1];
+
+            if (start != 0 || end != length - 1) {
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        String contentType = this.localFileSystemStorage.metadata(folder, object).getProperty(HttpHeaders.CONTENT_TYPE);
+        response.setContentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(end - start + 1);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(sendfileSupportAttribute))) {
+            request.setAttribute(sendfileFilenameAttribute, path.toString());
+            request.setAttribute(sendfileStartAttribute, start);
+            request.setAttribute(sendfileEndAttribute, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, target);
+            }
+        }
+
+        response.flushBuffer();
+    }
+
+    private long[] parseRange(String range, long length) {
+        String unit = "bytes=";
+        String spec = range.startsWith(unit) ? range.substring(unit.length()).trim() : null;
+
+        if (spec == null || spec.contains(",") || spec.indexOf('-') < 0) {
+            return new long[]{0, length - 1};
+        }
+
+        int dash = spec.indexOf('-');
+
+        try {
+            long start;
+            long end;
+
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+
+                if (suffix <= 0) {
+                    return null;
+                }
+
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? length - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), length - 1);
+            }
+
+            if (start >= length || start > end) {
+                return null;
+            }
+
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[]{0, length - 1};
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.Length;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -15,12 +19,15 @@ import javax.validation.constraints.Pattern;
 import java.io.Serial;
 import java.io.Serializable;
 
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @NoArgsConstructor
 @Getter
 @Setter
 @Entity(name = "Customer")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
 @Table(name = "customers", schema = "inventrack")
-public final class Customer implements Serializable {
+public class Customer implements Serializable {
     @Serial
     private static final long serialVersionUID = -403701503015247129L;
 
@@ -1,10 +1,14 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.Length;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -14,12 +18,15 @@ import javax.validation.constraints.Pattern;
 import java.io.Serial;
 import java.io.Serializable;
 
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @NoArgsConstructor
 @Getter
 @Setter
 @Entity(name = "DeliveryMedium")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "delivery-mediums")
 @Table(name = "delivery_mediums", schema = "inventrack")
-public final class DeliveryMedium implements Serializable {
+public class DeliveryMedium implements Serializable {
     @Serial
     private static final long serialVersionUID = 7987165109461026773L;
 
@@ -43,11 +43,11 @@ public final class FinanceRecord implements Serializable {
     @Column(name = "record_type", updatable = false, nullable = false)
     private FinanceRecordType type;
 
-    @OneToOne(targetEntity = PurchaseOrder.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH})
+    @OneToOne(targetEntity = PurchaseOrder.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH})
     @JoinColumn(name = "purchase_order_ref", referencedColumnName = "id")
     private PurchaseOrder purchaseOrder;
 
-    @OneToOne(targetEntity = Sale.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH})
+    @OneToOne(targetEntity = Sale.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH})
     @JoinColumn(name = "sale_order_ref", referencedColumnName = "id")
     private Sale sale;
 }
@@ -0,0 +1,60 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.entity;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageStatus;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity(name = "OutboxMessage")
+@Table(name = "outbox_messages", schema = "inventrack")
+public final class OutboxMessage implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3020553814806519726L;
+
+    @Id
+    @Setter(AccessLevel.NONE)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", unique = true, updatable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", updatable = false, nullable = false)
+    private OutboxMessageType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxMessageStatus status;
+
+    @Column(name = "payload", updatable = false, nullable = false)
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_on", updatable = false, nullable = false)
+    private LocalDateTime createdOn;
+
+    @Column(name = "available_on", nullable = false)
+    private LocalDateTime availableOn;
+
+    @PrePersist
+    private void initialize() {
+        this.status = OutboxMessageStatus.PENDING;
+        this.createdOn = LocalDateTime.now(ZoneId.systemDefault());
+        this.availableOn = this.createdOn;
+    }
+}
@@ -35,7 +35,7 @@ public final class PersistedOtp implements Serializable {
     @Column(name = "expires_on", updatable = false, nullable = false)
     private LocalDateTime expiresOn;
 
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH}, optional = false)
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH}, optional = false)
     @JoinColumn(name = "for_user", referencedColumnName = "username", nullable = false)
     private User forUser;
 
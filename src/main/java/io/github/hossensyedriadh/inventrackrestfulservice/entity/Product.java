@@ -1,6 +1,8 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ImageRenditions;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,12 +18,32 @@ import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
 
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @NoArgsConstructor
 @Getter
 @Setter
 @Entity(name = "Product")
 @Table(name = "products", schema = "inventrack")
-public final class Product implements Serializable {
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "Product.list", attributeNodes = {
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode("purchaseOrder")
+        }),
+        @NamedEntityGraph(name = "Product.detail", attributeNodes = {
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode(value = "purchaseOrder", subgraph = "purchaseOrder"),
+                @NamedAttributeNode(value = "updatedBy", subgraph = "user")
+        }, subgraphs = {
+                @NamedSubgraph(name = "purchaseOrder", attributeNodes = {
+                        @NamedAttributeNode("category"),
+                        @NamedAttributeNode("supplier"),
+                        @NamedAttributeNode(value = "addedBy", subgraph = "user"),
+                        @NamedAttributeNode(value = "updatedBy", subgraph = "user")
+                }),
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("profile"))
+        })
+})
+public class Product implements Serializable {
     @Serial
     private static final long serialVersionUID = 5765010773159717019L;
 
@@ -37,7 +59,7 @@ public final class Product implements Serializable {
     private String productName;
 
     @NotNull
-    @ManyToOne(cascade = CascadeType.REFRESH, optional = false, targetEntity = ProductCategory.class)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REFRESH, optional = false, targetEntity = ProductCategory.class)
     @JoinColumn(name = "category", referencedColumnName = "name", nullable = false)
     private ProductCategory category;
 
@@ -55,7 +77,7 @@ public final class Product implements Serializable {
     private double price;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH})
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH})
     @JoinColumn(name = "updated_by", referencedColumnName = "username", insertable = false)
     private User updatedBy;
 
@@ -64,7 +86,7 @@ public final class Product implements Serializable {
     @Column(name = "updated_on", insertable = false)
     private LocalDateTime updatedOn;
 
-    @OneToOne(targetEntity = PurchaseOrder.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH}, optional = false)
+    @OneToOne(targetEntity = PurchaseOrder.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH}, optional = false)
     @JoinColumn(name = "purchase_order_ref", referencedColumnName = "id", nullable = false)
     private PurchaseOrder purchaseOrder;
 
@@ -72,6 +94,10 @@ public final class Product implements Serializable {
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private List<String> images;
 
+    @Transient
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<ImageRenditions> renditions;
+
     @PrePersist
     private void initialize() {
         String[] uuid = UUID.randomUUID().toString().split("-");
@@ -26,15 +26,26 @@ public final class ProductImage implements Serializable {
     private String tag;
 
     @NotNull
-    @URL(message = "Invalid URL", protocol = "https",
-            regexp = "(https?:\\/\\/(?:www\\.|(?!www))[a-zA-Z0-9][a-zA-Z0-9-]+[a-zA-Z0-9]\\.[^\\s]{2,}|www\\.[a-zA-Z0-9][a-zA-Z0-9-]+[a-zA-Z0-9]\\.[^\\s]{2,}|https?:\\/\\/(?:www\\.|(?!www))[a-zA-Z0-9]+\\.[^\\s]{2,}|www\\.[a-zA-Z0-9]+\\.[^\\s]{2,})")
+    @URL(message = "Invalid URL", regexp = "^https?://.*")
     @Column(name = "static_cdn_url", nullable = false)
     private String url;
 
-    @ManyToOne(targetEntity = Product.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH})
+    @Setter(AccessLevel.NONE)
+    @Column(name = "thumbnail_url", insertable = false, updatable = false)
+    private String thumbnailUrl;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "medium_url", insertable = false, updatable = false)
+    private String mediumUrl;
+
+    @ManyToOne(targetEntity = Product.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH})
     @JoinColumn(name = "for_product", referencedColumnName = "id", nullable = false)
     private Product forProduct;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "for_product", insertable = false, updatable = false)
+    private String forProductId;
+
     @PrePersist
     private void init() {
         this.tag = UUID.randomUUID().toString();
@@ -6,6 +6,10 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.URL;
 
@@ -24,6 +28,9 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity(name = "Profile")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "profiles")
+@NaturalIdCache(region = "profile-emails")
 @Table(name = "profiles", schema = "inventrack")
 public final class Profile implements Serializable {
     @Serial
@@ -49,6 +56,7 @@ public final class Profile implements Serializable {
 
     @NotNull
     @Email(message = "Invalid email address", regexp = "^\\w+([.-]?\\w+)*@\\w+([.-]?\\w+)*(\\.\\w{2,3})+$")
+    @NaturalId(mutable = true)
     @Column(name = "email", unique = true, nullable = false)
     private String email;
 
@@ -61,11 +69,20 @@ public final class Profile implements Serializable {
     @Column(name = "user_since", updatable = false, nullable = false)
     private Date userSince;
 
-    @URL(protocol = "https", regexp = "(https?:\\/\\/(?:www\\.|(?!www))[a-zA-Z0-9][a-zA-Z0-9-]+[a-zA-Z0-9]\\.[^\\s]{2,}|www\\.[a-zA-Z0-9][a-zA-Z0-9-]+[a-zA-Z0-9]\\.[^\\s]{2,}|https?:\\/\\/(?:www\\.|(?!www))[a-zA-Z0-9]+\\.[^\\s]{2,}|www\\.[a-zA-Z0-9]+\\.[^\\s]{2,})",
-            message = "Invalid URL")
+    @URL(regexp = "^https?://.*", message = "Invalid URL")
     @Column(name = "avatar")
     private String avatar;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "avatar_thumbnail", insertable = false, updatable = false)
+    private String avatarThumbnail;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "avatar_medium", insertable = false, updatable = false)
+    private String avatarMedium;
+
     @PrePersist
     private void initialize() {
         this.id = UUID.randomUUID().toString();
@@ -1,5 +1,6 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource.PostgreSQLEnumType;
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PurchaseOrderStatus;
@@ -21,16 +22,30 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.UUID;
 
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @NoArgsConstructor
 @Getter
 @Setter
 @Entity(name = "PurchaseOrder")
 @Table(name = "purchase_orders", schema = "inventrack")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "PurchaseOrder.list", attributeNodes = {
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode("supplier"),
+                @NamedAttributeNode(value = "addedBy", subgraph = "user")
+        }, subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("profile"))),
+        @NamedEntityGraph(name = "PurchaseOrder.detail", attributeNodes = {
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode("supplier"),
+                @NamedAttributeNode(value = "addedBy", subgraph = "user"),
+                @NamedAttributeNode(value = "updatedBy", subgraph = "user")
+        }, subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("profile")))
+})
 @TypeDefs({
         @TypeDef(name = "pgsql_purchase_order_status_enum", typeClass = PostgreSQLEnumType.class),
         @TypeDef(name = "pgsql_purchase_order_type_enum", typeClass = PostgreSQLEnumType.class)
 })
-public final class PurchaseOrder implements Serializable {
+public class PurchaseOrder implements Serializable {
     @Serial
     private static final long serialVersionUID = 9136088204907264708L;
 
@@ -46,7 +61,7 @@ public final class PurchaseOrder implements Serializable {
     private String productName;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH},
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH},
             optional = false, targetEntity = ProductCategory.class)
     @JoinColumn(name = "category", referencedColumnName = "name", nullable = false)
     private ProductCategory category;
@@ -85,7 +100,7 @@ public final class PurchaseOrder implements Serializable {
     private double sellingPricePerUnit;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.REFRESH, optional = false, targetEntity = Supplier.class)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REFRESH, optional = false, targetEntity = Supplier.class)
     @JoinColumn(name = "supplier_reference", referencedColumnName = "phone_no", nullable = false)
     private Supplier supplier;
 
@@ -105,7 +120,7 @@ public final class PurchaseOrder implements Serializable {
     private String productId;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH}, optional = false)
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH}, optional = false)
     @JoinColumn(name = "added_by", referencedColumnName = "username", nullable = false)
     private User addedBy;
 
@@ -115,7 +130,7 @@ public final class PurchaseOrder implements Serializable {
     private LocalDateTime addedOn;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH})
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH})
     @JoinColumn(name = "updated_by", referencedColumnName = "username", insertable = false)
     private User updatedBy;
 
@@ -25,7 +25,7 @@ public final class RefreshToken implements Serializable {
     @Column(name = "token", unique = true, updatable = false, nullable = false)
     private String token;
 
-    @OneToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH}, optional = false)
+    @OneToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH}, optional = false)
     @JoinColumn(name = "for_user", referencedColumnName = "username", nullable = false)
     private User forUser;
 }
@@ -1,5 +1,6 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource.PostgreSQLEnumType;
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OrderStatus;
@@ -23,16 +24,32 @@ import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
 
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @NoArgsConstructor
 @Getter
 @Setter
 @Entity(name = "Sale")
 @Table(name = "sales", schema = "inventrack")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "Sale.list", attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode("paymentMethod"),
+                @NamedAttributeNode("deliveryMedium"),
+                @NamedAttributeNode(value = "addedBy", subgraph = "user")
+        }, subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("profile"))),
+        @NamedEntityGraph(name = "Sale.detail", attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode("paymentMethod"),
+                @NamedAttributeNode("deliveryMedium"),
+                @NamedAttributeNode(value = "addedBy", subgraph = "user"),
+                @NamedAttributeNode(value = "updatedBy", subgraph = "user")
+        }, subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("profile")))
+})
 @TypeDefs({
         @TypeDef(name = "pgsql_sale_payment_status_enum", typeClass = PostgreSQLEnumType.class),
         @TypeDef(name = "pgsql_sale_order_status_enum", typeClass = PostgreSQLEnumType.class)
 })
-public final class Sale implements Serializable {
+public class Sale implements Serializable {
     @Serial
     private static final long serialVersionUID = 3887442041270361216L;
 
@@ -53,7 +70,7 @@ public final class Sale implements Serializable {
     private double totalDue;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.REFRESH, optional = false, targetEntity = Customer.class)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REFRESH, optional = false, targetEntity = Customer.class)
     @JoinColumn(name = "customer", referencedColumnName = "phone_no", nullable = false)
     private Customer customer;
 
@@ -64,7 +81,7 @@ public final class Sale implements Serializable {
     private PaymentStatus paymentStatus;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH}, optional = false, targetEntity = PaymentMethod.class)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH}, optional = false, targetEntity = PaymentMethod.class)
     @JoinColumn(name = "payment_method", referencedColumnName = "name", nullable = false)
     private PaymentMethod paymentMethod;
 
@@ -80,7 +97,7 @@ public final class Sale implements Serializable {
     private OrderStatus orderStatus;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH}, optional = false, targetEntity = DeliveryMedium.class)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH}, optional = false, targetEntity = DeliveryMedium.class)
     @JoinColumn(name = "delivery_medium", referencedColumnName = "name", nullable = false)
     private DeliveryMedium deliveryMedium;
 
@@ -88,7 +105,7 @@ public final class Sale implements Serializable {
     private String notes;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH}, optional = false)
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH}, optional = false)
     @JoinColumn(name = "added_by", referencedColumnName = "username", nullable = false)
     private User addedBy;
 
@@ -98,7 +115,7 @@ public final class Sale implements Serializable {
     private LocalDateTime addedOn;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH})
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH})
     @JoinColumn(name = "updated_by", referencedColumnName = "username", insertable = false)
     private User updatedBy;
 
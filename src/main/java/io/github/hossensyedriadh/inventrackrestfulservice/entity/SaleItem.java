@@ -19,6 +19,11 @@ import java.util.UUID;
 @Setter
 @Entity(name = "SaleItem")
 @Table(name = "sale_items", schema = "inventrack")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "SaleItem.detail", attributeNodes = @NamedAttributeNode(value = "product", subgraph = "product"),
+                subgraphs = @NamedSubgraph(name = "product", attributeNodes = @NamedAttributeNode("category"))),
+        @NamedEntityGraph(name = "SaleItem.report", attributeNodes = @NamedAttributeNode("sale"))
+})
 public final class SaleItem implements Serializable {
     @Serial
     private static final long serialVersionUID = 8946579312998451413L;
@@ -30,7 +35,7 @@ public final class SaleItem implements Serializable {
     private String id;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.REFRESH, optional = false, targetEntity = Product.class)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REFRESH, optional = false, targetEntity = Product.class)
     @JoinColumn(name = "product", referencedColumnName = "id", nullable = false)
     private Product product;
 
@@ -44,7 +49,7 @@ public final class SaleItem implements Serializable {
 
     @JsonIgnore
     @NotNull
-    @ManyToOne(cascade = CascadeType.REFRESH, optional = false, targetEntity = Sale.class)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.REFRESH, optional = false, targetEntity = Sale.class)
     @JoinColumn(name = "sale_ref", referencedColumnName = "id", nullable = false)
     private Sale sale;
 
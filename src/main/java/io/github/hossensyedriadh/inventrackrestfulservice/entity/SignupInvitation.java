@@ -29,6 +29,8 @@ import java.util.UUID;
 @Setter
 @Entity(name = "SignupInvitation")
 @Table(name = "signup_invitations", schema = "inventrack")
+@NamedEntityGraph(name = "SignupInvitation.detail", attributeNodes = @NamedAttributeNode(value = "createdBy", subgraph = "user"),
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("profile")))
 @TypeDefs(value = {
         @TypeDef(name = "pgsql_signup_invitation_status_enum", typeClass = PostgreSQLEnumType.class),
         @TypeDef(name = "pgsql_signup_invalidation_remarks_enum", typeClass = PostgreSQLEnumType.class),
@@ -85,7 +87,7 @@ public final class SignupInvitation implements Serializable {
     private InvitedUserAuthority forAuthority;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH}, optional = false)
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH}, optional = false)
     @JoinColumn(name = "created_by", referencedColumnName = "username", nullable = false)
     private User createdBy;
 
@@ -1,10 +1,13 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.URL;
 
@@ -17,12 +20,19 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @NoArgsConstructor
 @Getter
 @Setter
 @Entity(name = "Supplier")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "suppliers")
 @Table(name = "suppliers", schema = "inventrack")
-public final class Supplier implements Serializable {
+@NamedEntityGraph(name = "Supplier.detail", attributeNodes = {
+        @NamedAttributeNode(value = "addedBy", subgraph = "user"),
+        @NamedAttributeNode(value = "updatedBy", subgraph = "user")
+}, subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("profile")))
+public class Supplier implements Serializable {
     @Serial
     private static final long serialVersionUID = 827504301669231697L;
 
@@ -58,7 +68,7 @@ public final class Supplier implements Serializable {
     private String notes;
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH})
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH})
     @JoinColumn(name = "added_by", referencedColumnName = "username", nullable = false)
     private User addedBy;
 
@@ -67,7 +77,7 @@ public final class Supplier implements Serializable {
     @Column(name = "added_on", updatable = false, nullable = false)
     private LocalDateTime addedOn;
 
-    @ManyToOne(targetEntity = User.class, fetch = FetchType.EAGER, cascade = {CascadeType.REFRESH})
+    @ManyToOne(targetEntity = User.class, fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH})
     @JoinColumn(name = "updated_by", referencedColumnName = "username", insertable = false)
     private User updatedBy;
 
@@ -0,0 +1,16 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.enumerator;
+
+public enum ExportFormat {
+    CSV ("text/csv"),
+    NDJSON ("application/x-ndjson");
+
+    private final String value;
+
+    ExportFormat(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
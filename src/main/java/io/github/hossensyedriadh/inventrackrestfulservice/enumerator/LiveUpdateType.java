@@ -0,0 +1,17 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.enumerator;
+
+public enum LiveUpdateType {
+    STOCK_CHANGED ("Stock Changed"),
+    SALE_ADDED ("Sale Added"),
+    PURCHASE_RECEIVED ("Purchase Received");
+
+    private final String value;
+
+    LiveUpdateType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
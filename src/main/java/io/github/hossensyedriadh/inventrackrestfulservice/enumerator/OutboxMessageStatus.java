@@ -0,0 +1,16 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.enumerator;
+
+public enum OutboxMessageStatus {
+    PENDING ("Pending"),
+    FAILED ("Failed");
+
+    private final String value;
+
+    OutboxMessageStatus(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.enumerator;
+
+public enum OutboxMessageType {
+    FINANCE_RECORD ("Finance Record"),
+    MAIL ("Mail");
+
+    private final String value;
+
+    OutboxMessageType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
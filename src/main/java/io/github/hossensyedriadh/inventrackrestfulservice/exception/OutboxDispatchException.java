@@ -0,0 +1,24 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.exception;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * Thrown when a claimed batch of outbox messages could not be delivered as a whole. The messages are released
+ * for another attempt; {@link #getMessageIds()} names them so a single failing message can be deferred on its own.
+ */
+public class OutboxDispatchException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = -5187220736043182261L;
+
+    private final List<Long> messageIds;
+
+    public OutboxDispatchException(List<Long> messageIds, Throwable cause) {
+        super(cause.getMessage(), cause);
+        this.messageIds = List.copyOf(messageIds);
+    }
+
+    public List<Long> getMessageIds() {
+        return messageIds;
+    }
+}
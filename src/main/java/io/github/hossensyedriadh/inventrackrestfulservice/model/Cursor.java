@@ -0,0 +1,42 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Getter
+public final class Cursor implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2851903415732470018L;
+
+    private static final String separator = "|";
+
+    private final LocalDateTime addedOn;
+    private final String id;
+
+    public Cursor(LocalDateTime addedOn, String id) {
+        this.addedOn = addedOn;
+        this.id = id;
+    }
+
+    public String encode() {
+        String position = (this.addedOn != null ? this.addedOn.toString() : "") + separator + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int index = position.indexOf(separator);
+
+        if (index < 0 || index == position.length() - 1) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        LocalDateTime addedOn = index > 0 ? LocalDateTime.parse(position.substring(0, index)) : null;
+        return new Cursor(addedOn, position.substring(index + 1));
+    }
+}
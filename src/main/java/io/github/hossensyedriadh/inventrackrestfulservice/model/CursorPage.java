@@ -0,0 +1,40 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public final class CursorPage<T> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 6087417320926351547L;
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final Long totalElements;
+
+    public CursorPage(List<T> rows, int size, Function<T, Cursor> cursorOf, Long totalElements) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+
+        // rows are fetched with a limit of size + 1, the extra row only signals that a next page exists
+        boolean hasNext = rows.size() > size;
+        this.content = hasNext ? rows.subList(0, size) : rows;
+        this.size = size;
+        this.nextCursor = hasNext ? cursorOf.apply(this.content.get(size - 1)).encode() : null;
+        this.totalElements = totalElements;
+    }
+
+    public boolean isEmpty() {
+        return this.content.isEmpty();
+    }
+
+    public boolean hasNext() {
+        return this.nextCursor != null;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class CursorPageInfo implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -4410267391547882133L;
+
+    private final int size;
+    private final int numberOfElements;
+    private final String next;
+    private final Long totalElements;
+
+    public CursorPageInfo(CursorPage<?> page) {
+        this.size = page.getSize();
+        this.numberOfElements = page.getContent().size();
+        this.next = page.getNextCursor();
+        this.totalElements = page.getTotalElements();
+    }
+}
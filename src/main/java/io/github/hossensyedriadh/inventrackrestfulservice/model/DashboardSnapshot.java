@@ -0,0 +1,50 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+public final class DashboardSnapshot implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2318840276541920738L;
+
+    private final long version;
+    private final LocalDateTime generatedAt;
+    private final double totalSales;
+    private final double totalCost;
+    private final int unitsSold;
+    private final double stockValue;
+    private final long productCount;
+    private final Map<String, Double> financeSummary;
+    private final Map<Integer, Map<String, Double>> historicalFinanceSummary;
+    private final Map<Integer, Integer> saleOrderCount;
+    private final Map<Integer, Integer> unitsSoldByYear;
+    private final Map<Integer, Integer> purchaseOrderCount;
+
+    @JsonIgnore
+    private final String eTag;
+
+    public DashboardSnapshot(long version, LocalDateTime generatedAt, double totalSales, double totalCost, int unitsSold,
+                             double stockValue, long productCount, Map<String, Double> financeSummary,
+                             Map<Integer, Map<String, Double>> historicalFinanceSummary, Map<Integer, Integer> saleOrderCount,
+                             Map<Integer, Integer> unitsSoldByYear, Map<Integer, Integer> purchaseOrderCount, String eTag) {
+        this.version = version;
+        this.generatedAt = generatedAt;
+        this.totalSales = totalSales;
+        this.totalCost = totalCost;
+        this.unitsSold = unitsSold;
+        this.stockValue = stockValue;
+        this.productCount = productCount;
+        this.financeSummary = financeSummary;
+        this.historicalFinanceSummary = historicalFinanceSummary;
+        this.saleOrderCount = saleOrderCount;
+        this.unitsSoldByYear = unitsSoldByYear;
+        this.purchaseOrderCount = purchaseOrderCount;
+        this.eTag = eTag;
+    }
+}
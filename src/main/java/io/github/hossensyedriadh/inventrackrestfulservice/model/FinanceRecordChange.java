@@ -0,0 +1,46 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.FinanceRecordType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public final class FinanceRecordChange implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -1590324410986226705L;
+
+    private FinanceRecordType type;
+    private String reference;
+    private boolean removal;
+    private double value;
+    private int month;
+    private int year;
+
+    private FinanceRecordChange(FinanceRecordType type, String reference, boolean removal, double value, LocalDateTime on) {
+        this.type = type;
+        this.reference = reference;
+        this.removal = removal;
+        this.value = value;
+        this.month = on.getMonthValue();
+        this.year = on.getYear();
+    }
+
+    public static FinanceRecordChange sale(String saleId, double value, LocalDateTime on) {
+        return new FinanceRecordChange(FinanceRecordType.SALE, saleId, false, value, on);
+    }
+
+    public static FinanceRecordChange expense(String purchaseOrderId, double value, LocalDateTime on) {
+        return new FinanceRecordChange(FinanceRecordType.EXPENSE, purchaseOrderId, false, value, on);
+    }
+
+    public static FinanceRecordChange removal(FinanceRecordType type, String reference, LocalDateTime on) {
+        return new FinanceRecordChange(type, reference, true, 0, on);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+@Getter
+public final class ImageRenditions implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2871456390218846219L;
+
+    private final String thumb;
+    private final String medium;
+    private final String original;
+
+    public ImageRenditions(String thumb, String medium, String original) {
+        this.thumb = thumb;
+        this.medium = medium;
+        this.original = original;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.LiveUpdateType;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class LiveUpdate implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 5218840930571362144L;
+
+    private final LiveUpdateType type;
+    private final String productId;
+    private final Integer stock;
+    private final String saleId;
+    private final Double totalPayable;
+    private final String purchaseOrderId;
+    private final Integer quantity;
+    private final LocalDateTime occurredOn;
+
+    private LiveUpdate(LiveUpdateType type, String productId, Integer stock, String saleId, Double totalPayable,
+                       String purchaseOrderId, Integer quantity) {
+        this.type = type;
+        this.productId = productId;
+        this.stock = stock;
+        this.saleId = saleId;
+        this.totalPayable = totalPayable;
+        this.purchaseOrderId = purchaseOrderId;
+        this.quantity = quantity;
+        this.occurredOn = LocalDateTime.now(ZoneId.systemDefault());
+    }
+
+    public static LiveUpdate stockChanged(String productId, int stock) {
+        return new LiveUpdate(LiveUpdateType.STOCK_CHANGED, productId, stock, null, null, null, null);
+    }
+
+    public static LiveUpdate saleAdded(String saleId, double totalPayable, int quantity) {
+        return new LiveUpdate(LiveUpdateType.SALE_ADDED, null, null, saleId, totalPayable, null, quantity);
+    }
+
+    public static LiveUpdate purchaseReceived(String purchaseOrderId, String productId, int quantity) {
+        return new LiveUpdate(LiveUpdateType.PURCHASE_RECEIVED, productId, null, null, null, purchaseOrderId, quantity);
+    }
+}
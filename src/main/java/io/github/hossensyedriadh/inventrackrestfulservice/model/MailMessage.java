@@ -0,0 +1,29 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public final class MailMessage implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 7464981505937003392L;
+
+    private String recipient;
+    private String subject;
+    private String template;
+    private Map<String, Object> variables;
+
+    public MailMessage(String recipient, String subject, String template, Map<String, Object> variables) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.template = template;
+        this.variables = variables;
+    }
+}
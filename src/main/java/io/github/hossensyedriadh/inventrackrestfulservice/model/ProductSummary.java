@@ -0,0 +1,38 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public final class ProductSummary implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 7751093562884127720L;
+
+    private final String id;
+    private final String productName;
+    private final String category;
+    private final int stock;
+    private final double price;
+    private final LocalDateTime updatedOn;
+
+    @Setter
+    private List<String> images;
+
+    @Setter
+    private List<ImageRenditions> renditions;
+
+    public ProductSummary(String id, String productName, String category, int stock, double price,
+                          LocalDateTime updatedOn) {
+        this.id = id;
+        this.productName = productName;
+        this.category = category;
+        this.stock = stock;
+        this.price = price;
+        this.updatedOn = updatedOn;
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PurchaseOrderStatus;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PurchaseOrderType;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Getter
+public final class PurchaseOrderSummary implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2209187634550153178L;
+
+    private final String id;
+    private final String productName;
+    private final String category;
+    private final int quantity;
+    private final double totalPurchasePrice;
+    private final double shippingCosts;
+    private final double otherCosts;
+    private final double sellingPricePerUnit;
+    private final String supplierPhoneNo;
+    private final String supplierName;
+    private final PurchaseOrderStatus status;
+    private final PurchaseOrderType orderType;
+    private final String productId;
+    private final String addedBy;
+    private final LocalDateTime addedOn;
+    private final LocalDateTime updatedOn;
+
+    public PurchaseOrderSummary(String id, String productName, String category, int quantity, double totalPurchasePrice,
+                                double shippingCosts, double otherCosts, double sellingPricePerUnit, String supplierPhoneNo,
+                                String supplierName, PurchaseOrderStatus status, PurchaseOrderType orderType, String productId,
+                                String addedBy, LocalDateTime addedOn, LocalDateTime updatedOn) {
+        this.id = id;
+        this.productName = productName;
+        this.category = category;
+        this.quantity = quantity;
+        this.totalPurchasePrice = totalPurchasePrice;
+        this.shippingCosts = shippingCosts;
+        this.otherCosts = otherCosts;
+        this.sellingPricePerUnit = sellingPricePerUnit;
+        this.supplierPhoneNo = supplierPhoneNo;
+        this.supplierName = supplierName;
+        this.status = status;
+        this.orderType = orderType;
+        this.productId = productId;
+        this.addedBy = addedBy;
+        this.addedOn = addedOn;
+        this.updatedOn = updatedOn;
+    }
+}
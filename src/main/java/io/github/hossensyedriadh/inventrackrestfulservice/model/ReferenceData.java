@@ -0,0 +1,24 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+public final class ReferenceData<T extends Serializable> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4410958327561950318L;
+
+    private final List<T> values;
+    private final Set<String> names;
+    private final String version;
+
+    public ReferenceData(List<T> values, Set<String> names, String version) {
+        this.values = values;
+        this.names = names;
+        this.version = version;
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.model;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OrderStatus;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PaymentStatus;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Getter
+public final class SaleSummary implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -6416934217436452271L;
+
+    private final String id;
+    private final double totalPayable;
+    private final double totalDue;
+    private final String customerPhoneNo;
+    private final String customerName;
+    private final PaymentStatus paymentStatus;
+    private final String paymentMethod;
+    private final OrderStatus orderStatus;
+    private final String deliveryMedium;
+    private final String addedBy;
+    private final LocalDateTime addedOn;
+    private final LocalDateTime updatedOn;
+
+    public SaleSummary(String id, double totalPayable, double totalDue, String customerPhoneNo, String customerName,
+                       PaymentStatus paymentStatus, String paymentMethod, OrderStatus orderStatus, String deliveryMedium,
+                       String addedBy, LocalDateTime addedOn, LocalDateTime updatedOn) {
+        this.id = id;
+        this.totalPayable = totalPayable;
+        this.totalDue = totalDue;
+        this.customerPhoneNo = customerPhoneNo;
+        this.customerName = customerName;
+        this.paymentStatus = paymentStatus;
+        this.paymentMethod = paymentMethod;
+        this.orderStatus = orderStatus;
+        this.deliveryMedium = deliveryMedium;
+        this.addedBy = addedBy;
+        this.addedOn = addedOn;
+        this.updatedOn = updatedOn;
+    }
+}
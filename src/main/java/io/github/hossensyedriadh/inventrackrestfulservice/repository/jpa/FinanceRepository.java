@@ -4,8 +4,17 @@ import io.github.hossensyedriadh.inventrackrestfulservice.entity.FinanceRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface FinanceRepository extends JpaRepository<FinanceRecord, Integer>, JpaSpecificationExecutor<FinanceRecord> {
     @Query("select sum(f.value) as expenses_by_year from FinanceRecord f where f.type='EXPENSE' and f.year = ?1")
@@ -19,4 +28,16 @@ public interface FinanceRepository extends JpaRepository<FinanceRecord, Integer>
 
     @Query("select sum(f.value) as sales_by_year from FinanceRecord f where f.type ='SALE' and f.month = ?1")
     Double getSalesByMonth(int month);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select f from FinanceRecord f left join fetch f.sale left join fetch f.purchaseOrder " +
+            "where (f.year > ?1 or (f.year = ?1 and f.month >= ?2)) and (f.year < ?3 or (f.year = ?3 and f.month <= ?4)) " +
+            "order by f.year, f.month, f.id")
+    Stream<FinanceRecord> streamFinanceRecordsBetween(int fromYear, int fromMonth, int toYear, int toMonth);
+
+    @Query("select f from FinanceRecord f where f.sale.id in ?1")
+    List<FinanceRecord> findBySaleIds(Collection<String> saleIds);
+
+    @Query("select f from FinanceRecord f where f.purchaseOrder.id in ?1")
+    List<FinanceRecord> findByPurchaseOrderIds(Collection<String> purchaseOrderIds);
 }
@@ -0,0 +1,36 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.OutboxMessage;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+    // -2 asks for SKIP LOCKED where the dialect supports it, so several instances can drain the outbox side by side
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "javax.persistence.lock.timeout", value = "-2")})
+    @Query("select m from OutboxMessage m where m.status = io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageStatus.PENDING" +
+            " and m.availableOn <= ?1 order by m.availableOn, m.id")
+    List<OutboxMessage> findDueMessages(LocalDateTime now, Pageable pageable);
+
+    @Query("select min(m.createdOn) from OutboxMessage m where m.status = io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageStatus.PENDING")
+    LocalDateTime findOldestPendingCreatedOn();
+
+    @Modifying
+    @Query("update OutboxMessage m set m.availableOn = ?2 where m.id in ?1")
+    int updateAvailableOn(Collection<Long> ids, LocalDateTime availableOn);
+
+    long countByStatus(OutboxMessageStatus status);
+}
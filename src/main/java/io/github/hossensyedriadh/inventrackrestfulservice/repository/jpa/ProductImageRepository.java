@@ -2,8 +2,24 @@ package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ProductImageRepository extends JpaRepository<ProductImage, String> {
+    List<ProductImage> findByForProductId(String productId);
+
+    List<ProductImage> findByForProductIdIn(Collection<String> productIds);
+
+    @Transactional
+    @Modifying
+    @Query("update ProductImage i set i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl where i.tag = :tag")
+    int updateRenditions(@Param("tag") String tag, @Param("thumbnailUrl") String thumbnailUrl,
+                         @Param("mediumUrl") String mediumUrl);
 }
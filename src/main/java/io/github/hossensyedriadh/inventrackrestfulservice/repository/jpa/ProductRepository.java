@@ -1,12 +1,44 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Product;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ProductSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, String>, PagingAndSortingRepository<Product, String>,
         JpaSpecificationExecutor<Product> {
+    @Override
+    @EntityGraph("Product.detail")
+    Optional<Product> findById(String id);
+
+    @Override
+    @EntityGraph("Product.list")
+    List<Product> findAll();
+
+    @Override
+    @EntityGraph("Product.list")
+    Page<Product> findAll(Pageable pageable);
+
+    @Query(value = "select new io.github.hossensyedriadh.inventrackrestfulservice.model.ProductSummary(p.id, p.productName, c.name, p.stock, p.price, p.updatedOn) " +
+            "from Product p join p.category c",
+            countQuery = "select count(p) from Product p")
+    Page<ProductSummary> findProductSummaries(Pageable pageable);
+
+    @Query("select new io.github.hossensyedriadh.inventrackrestfulservice.model.ProductSummary(p.id, p.productName, c.name, p.stock, p.price, p.updatedOn) " +
+            "from Product p join p.category c order by p.id")
+    List<ProductSummary> findFirstProductSummaries(Pageable pageable);
+
+    @Query("select new io.github.hossensyedriadh.inventrackrestfulservice.model.ProductSummary(p.id, p.productName, c.name, p.stock, p.price, p.updatedOn) " +
+            "from Product p join p.category c where p.id > ?1 order by p.id")
+    List<ProductSummary> findProductSummariesAfter(String id, Pageable pageable);
 }
@@ -3,10 +3,27 @@ package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, String>, PagingAndSortingRepository<Profile, String>,
         JpaSpecificationExecutor<Profile> {
+    boolean existsByEmail(String email);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Profile p set p.avatar = :avatar, p.avatarThumbnail = null, p.avatarMedium = null where p.id = :id")
+    int updateAvatar(@Param("id") String id, @Param("avatar") String avatar);
+
+    @Transactional
+    @Modifying
+    @Query("update Profile p set p.avatarThumbnail = :thumbnailUrl, p.avatarMedium = :mediumUrl " +
+            "where p.id = :id and p.avatar = :avatar")
+    int updateAvatarRenditions(@Param("id") String id, @Param("avatar") String avatar,
+                               @Param("thumbnailUrl") String thumbnailUrl, @Param("mediumUrl") String mediumUrl);
 }
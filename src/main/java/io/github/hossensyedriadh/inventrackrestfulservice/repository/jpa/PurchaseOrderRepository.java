@@ -1,18 +1,68 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.PurchaseOrder;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.PurchaseOrderSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface PurchaseOrderRepository extends JpaRepository<PurchaseOrder, String>, PagingAndSortingRepository<PurchaseOrder, String>,
         JpaSpecificationExecutor<PurchaseOrder> {
-    Page<PurchaseOrder> findPurchaseOrdersBySupplierPhoneNo(Pageable pageable, String supplierPhoneNo);
+    @Override
+    @EntityGraph("PurchaseOrder.detail")
+    Optional<PurchaseOrder> findById(String id);
+
+    @Override
+    @EntityGraph("PurchaseOrder.list")
+    Page<PurchaseOrder> findAll(Pageable pageable);
+
+    @Query(value = "select new io.github.hossensyedriadh.inventrackrestfulservice.model.PurchaseOrderSummary(p.id, p.productName, c.name, p.quantity, " +
+            "p.totalPurchasePrice, p.shippingCosts, p.otherCosts, p.sellingPricePerUnit, s.phoneNo, s.name, p.status, " +
+            "p.orderType, p.productId, p.addedBy.username, p.addedOn, p.updatedOn) " +
+            "from PurchaseOrder p join p.category c join p.supplier s",
+            countQuery = "select count(p) from PurchaseOrder p")
+    Page<PurchaseOrderSummary> findPurchaseOrderSummaries(Pageable pageable);
+
+    @Query(value = "select new io.github.hossensyedriadh.inventrackrestfulservice.model.PurchaseOrderSummary(p.id, p.productName, c.name, p.quantity, " +
+            "p.totalPurchasePrice, p.shippingCosts, p.otherCosts, p.sellingPricePerUnit, s.phoneNo, s.name, p.status, " +
+            "p.orderType, p.productId, p.addedBy.username, p.addedOn, p.updatedOn) " +
+            "from PurchaseOrder p join p.category c join p.supplier s where s.phoneNo = ?1",
+            countQuery = "select count(p) from PurchaseOrder p where p.supplier.phoneNo = ?1")
+    Page<PurchaseOrderSummary> findPurchaseOrderSummariesBySupplier(String supplierPhoneNo, Pageable pageable);
+
+    @Query("select new io.github.hossensyedriadh.inventrackrestfulservice.model.PurchaseOrderSummary(p.id, p.productName, c.name, p.quantity, " +
+            "p.totalPurchasePrice, p.shippingCosts, p.otherCosts, p.sellingPricePerUnit, s.phoneNo, s.name, p.status, " +
+            "p.orderType, p.productId, p.addedBy.username, p.addedOn, p.updatedOn) " +
+            "from PurchaseOrder p join p.category c join p.supplier s order by p.addedOn desc, p.id desc")
+    List<PurchaseOrderSummary> findLatestPurchaseOrderSummaries(Pageable pageable);
+
+    @Query("select new io.github.hossensyedriadh.inventrackrestfulservice.model.PurchaseOrderSummary(p.id, p.productName, c.name, p.quantity, " +
+            "p.totalPurchasePrice, p.shippingCosts, p.otherCosts, p.sellingPricePerUnit, s.phoneNo, s.name, p.status, " +
+            "p.orderType, p.productId, p.addedBy.username, p.addedOn, p.updatedOn) " +
+            "from PurchaseOrder p join p.category c join p.supplier s " +
+            "where p.addedOn < ?1 or (p.addedOn = ?1 and p.id < ?2) order by p.addedOn desc, p.id desc")
+    List<PurchaseOrderSummary> findPurchaseOrderSummariesBefore(LocalDateTime addedOn, String id, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select p from PurchaseOrder p join fetch p.category join fetch p.supplier " +
+            "where p.addedOn >= ?1 and p.addedOn < ?2 order by p.addedOn, p.id")
+    Stream<PurchaseOrder> streamPurchaseOrdersAddedBetween(LocalDateTime from, LocalDateTime to);
 
     @Query(value = "select count(*) from purchase_orders where extract(year from added_on) = ?;", nativeQuery = true)
     Integer getPurchaseOrderCount(int year);
@@ -1,12 +1,22 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.SaleItem;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface SaleItemRepository extends JpaRepository<SaleItem, String> {
+    @Override
+    @EntityGraph("SaleItem.report")
+    List<SaleItem> findAll();
+
+    @EntityGraph("SaleItem.detail")
+    List<SaleItem> findSaleItemsBySaleId(String saleId);
+
     @Query(value = "select sum(quantity) from sale_items inner join sales s on sale_items.sale_ref = s.id where extract(year from added_on) = ?;", nativeQuery = true)
     Integer getUnitsSold(int year);
 
@@ -1,18 +1,64 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Sale;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.SaleSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface SaleRepository extends JpaRepository<Sale, String>, PagingAndSortingRepository<Sale, String>,
         JpaSpecificationExecutor<Sale> {
-    Page<Sale> findSalesByCustomerPhoneNo(Pageable pageable, String customerPhoneNo);
+    @Override
+    @EntityGraph("Sale.detail")
+    Optional<Sale> findById(String id);
+
+    @Override
+    @EntityGraph("Sale.list")
+    Page<Sale> findAll(Pageable pageable);
+
+    @Query(value = "select new io.github.hossensyedriadh.inventrackrestfulservice.model.SaleSummary(s.id, s.totalPayable, s.totalDue, " +
+            "c.phoneNo, c.name, s.paymentStatus, pm.name, s.orderStatus, dm.name, s.addedBy.username, s.addedOn, s.updatedOn) " +
+            "from Sale s join s.customer c join s.paymentMethod pm join s.deliveryMedium dm",
+            countQuery = "select count(s) from Sale s")
+    Page<SaleSummary> findSaleSummaries(Pageable pageable);
+
+    @Query(value = "select new io.github.hossensyedriadh.inventrackrestfulservice.model.SaleSummary(s.id, s.totalPayable, s.totalDue, " +
+            "c.phoneNo, c.name, s.paymentStatus, pm.name, s.orderStatus, dm.name, s.addedBy.username, s.addedOn, s.updatedOn) " +
+            "from Sale s join s.customer c join s.paymentMethod pm join s.deliveryMedium dm where c.phoneNo = ?1",
+            countQuery = "select count(s) from Sale s where s.customer.phoneNo = ?1")
+    Page<SaleSummary> findSaleSummariesByCustomer(String customerPhoneNo, Pageable pageable);
+
+    @Query("select new io.github.hossensyedriadh.inventrackrestfulservice.model.SaleSummary(s.id, s.totalPayable, s.totalDue, " +
+            "c.phoneNo, c.name, s.paymentStatus, pm.name, s.orderStatus, dm.name, s.addedBy.username, s.addedOn, s.updatedOn) " +
+            "from Sale s join s.customer c join s.paymentMethod pm join s.deliveryMedium dm order by s.addedOn desc, s.id desc")
+    List<SaleSummary> findLatestSaleSummaries(Pageable pageable);
+
+    @Query("select new io.github.hossensyedriadh.inventrackrestfulservice.model.SaleSummary(s.id, s.totalPayable, s.totalDue, " +
+            "c.phoneNo, c.name, s.paymentStatus, pm.name, s.orderStatus, dm.name, s.addedBy.username, s.addedOn, s.updatedOn) " +
+            "from Sale s join s.customer c join s.paymentMethod pm join s.deliveryMedium dm " +
+            "where s.addedOn < ?1 or (s.addedOn = ?1 and s.id < ?2) order by s.addedOn desc, s.id desc")
+    List<SaleSummary> findSaleSummariesBefore(LocalDateTime addedOn, String id, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select s from Sale s join fetch s.customer join fetch s.paymentMethod join fetch s.deliveryMedium " +
+            "where s.addedOn >= ?1 and s.addedOn < ?2 order by s.addedOn, s.id")
+    Stream<Sale> streamSalesAddedBetween(LocalDateTime from, LocalDateTime to);
 
     @Query(value = "select count(*) from sales where extract(year from added_on) = ?;", nativeQuery = true)
     Integer getSaleOrderCount(int year);
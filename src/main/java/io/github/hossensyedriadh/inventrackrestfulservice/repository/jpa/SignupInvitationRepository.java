@@ -1,10 +1,22 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.SignupInvitation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface SignupInvitationRepository extends JpaRepository<SignupInvitation, String>, PagingAndSortingRepository<SignupInvitation, String> {
+    @Override
+    @EntityGraph("SignupInvitation.detail")
+    Optional<SignupInvitation> findById(String id);
+
+    @Override
+    @EntityGraph("SignupInvitation.detail")
+    Page<SignupInvitation> findAll(Pageable pageable);
 }
@@ -1,10 +1,27 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Supplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface SupplierRepository extends JpaRepository<Supplier, String>, PagingAndSortingRepository<Supplier, String> {
+    @Override
+    @EntityGraph("Supplier.detail")
+    Optional<Supplier> findById(String id);
+
+    @Override
+    @EntityGraph("Supplier.detail")
+    List<Supplier> findAll();
+
+    @Override
+    @EntityGraph("Supplier.detail")
+    Page<Supplier> findAll(Pageable pageable);
 }
@@ -6,5 +6,6 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String>, PagingAndSortingRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, String>, PagingAndSortingRepository<User, String>,
+        UserRepositoryCustom {
 }
@@ -0,0 +1,9 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,23 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Profile;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.User;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return this.entityManager.unwrap(Session.class).bySimpleNaturalId(Profile.class).loadOptional(email)
+                .flatMap(profile -> this.entityManager.createQuery("select u from User u where u.profile = :profile", User.class)
+                        .setParameter("profile", profile).getResultStream().findFirst());
+    }
+}
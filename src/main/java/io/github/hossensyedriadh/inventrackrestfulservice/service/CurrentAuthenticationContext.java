@@ -1,5 +1,6 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.service;
 
+import io.github.hossensyedriadh.inventrackrestfulservice.authentication.bearer_authentication.service.AuthenticatedUserDetails;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.User;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,12 +21,12 @@ public class CurrentAuthenticationContext {
     public User getAuthenticatedUser() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-        String username = ((UserDetails) principal).getUsername();
-
-        if (userRepository.findById(username).isPresent()) {
-            return userRepository.findById(username).get();
+        if (principal instanceof AuthenticatedUserDetails authenticatedUserDetails) {
+            return authenticatedUserDetails.getUser();
         }
 
-        throw new UsernameNotFoundException("User not found");
+        String username = ((UserDetails) principal).getUsername();
+
+        return userRepository.findById(username).orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 }
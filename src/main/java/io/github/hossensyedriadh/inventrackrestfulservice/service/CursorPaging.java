@@ -0,0 +1,50 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Validates the page size and cursor of keyset-paginated listings, rejecting bad input with a {@code 400}.
+ */
+@Component
+public class CursorPaging {
+    private final HttpServletRequest httpServletRequest;
+
+    @Value("${spring.data.rest.max-page-size}")
+    private int maxPageSize;
+
+    @Autowired
+    public CursorPaging(HttpServletRequest httpServletRequest) {
+        this.httpServletRequest = httpServletRequest;
+    }
+
+    public void checkPageSize(int size) {
+        if (size < 1 || size > this.maxPageSize) {
+            throw new ResourceException("Page size must be between 1 and " + this.maxPageSize, HttpStatus.BAD_REQUEST,
+                    httpServletRequest);
+        }
+    }
+
+    /**
+     * @param cursor          token from a previous page
+     * @param addedOnRequired whether the listing is ordered by {@code addedOn} and the cursor must carry it
+     */
+    public Cursor decode(String cursor, boolean addedOnRequired) {
+        try {
+            Cursor position = Cursor.decode(cursor);
+
+            if (!addedOnRequired || position.getAddedOn() != null) {
+                return position;
+            }
+        } catch (RuntimeException ignored) {
+        }
+
+        throw new ResourceException("Invalid cursor: " + cursor, HttpStatus.BAD_REQUEST, httpServletRequest);
+    }
+}
@@ -13,7 +13,7 @@ import io.github.hossensyedriadh.inventrackrestfulservice.exception.InvalidCrede
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.InvalidRefreshTokenException;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.UserAccountLockedException;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.UserRepository;
-import lombok.extern.log4j.Log4j;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -24,6 +24,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtValidationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
@@ -36,8 +37,9 @@ import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
-@Log4j
+@Slf4j
 @Service
+@Transactional(readOnly = true)
 public class AuthenticationServiceImpl implements AuthenticationService {
     private final BearerAuthenticationService bearerAuthenticationService;
     private final BearerAuthenticationUserDetailsService bearerAuthenticationUserDetailsService;
@@ -83,6 +85,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private String accessTokenType;
 
     @Override
+    @Transactional
     public BearerTokenResponse authenticate(BearerTokenRequest bearerTokenRequest) {
         UserDetails userDetails;
 
@@ -118,17 +121,11 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                     User user;
 
                     if (isUsername) {
-                        if (userRepository.findById(username).isPresent()) {
-                            user = userRepository.findById(username).get();
-                        } else {
-                            throw new UsernameNotFoundException("User not found: " + username);
-                        }
+                        user = userRepository.findById(username)
+                                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
                     } else if (isEmail) {
-                        if (userRepository.findAll().stream().anyMatch(usr -> usr.getProfile().getEmail().equals(username))) {
-                            user = userRepository.findAll().stream().filter(usr -> usr.getProfile().getEmail().equals(username)).toList().get(0);
-                        } else {
-                            throw new UsernameNotFoundException("User not found: " + username);
-                        }
+                        user = userRepository.findByEmail(username)
+                                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
                     } else {
                         throw new UsernameNotFoundException("User not found: " + username);
                     }
@@ -158,6 +155,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     @Override
+    @Transactional
     public BearerTokenResponse renewAccessToken(AccessTokenRequest accessTokenRequest) {
         String refreshToken = accessTokenRequest.getRefresh_token();
         boolean isRefreshTokenValid = this.bearerAuthenticationService.isRefreshTokenValid(refreshToken);
@@ -180,8 +178,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                         return new BearerTokenResponse(accessToken, this.accessTokenType, refreshToken);
                     }
                 } catch (ExecutionException e) {
-                    e.printStackTrace();
-                    log.error(e);
+                    log.error("Failed to load user details", e);
                 }
             }
 
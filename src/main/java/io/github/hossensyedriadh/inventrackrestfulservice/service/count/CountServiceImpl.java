@@ -10,8 +10,10 @@ import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleIte
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class CountServiceImpl implements CountService {
     private final ProductRepository productRepository;
 
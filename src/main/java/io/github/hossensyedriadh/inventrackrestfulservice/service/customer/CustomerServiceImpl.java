@@ -8,10 +8,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 
 @Service
+@Transactional(readOnly = true)
 public class CustomerServiceImpl implements CustomerService {
     private final CustomerRepository customerRepository;
     private final HttpServletRequest httpServletRequest;
@@ -30,17 +32,14 @@ public class CustomerServiceImpl implements CustomerService {
 
     @Override
     public Customer customer(String phone) {
-        if (customerRepository.findById(phone).isPresent()) {
-            return customerRepository.findById(phone).get();
-        }
-
-        throw new ResourceException("Customer not found with phone: " + phone, HttpStatus.BAD_REQUEST,
-                httpServletRequest);
+        return customerRepository.findById(phone).orElseThrow(() -> new ResourceException(
+                "Customer not found with phone: " + phone, HttpStatus.BAD_REQUEST, httpServletRequest));
     }
 
     @Override
+    @Transactional
     public Customer updateCustomer(Customer updatedCustomer) {
-        if (customerRepository.findById(updatedCustomer.getPhoneNo()).isPresent()) {
+        if (customerRepository.existsById(updatedCustomer.getPhoneNo())) {
             return customerRepository.save(updatedCustomer);
         }
 
@@ -0,0 +1,11 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.dashboard;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.model.DashboardSnapshot;
+
+public interface DashboardService {
+    DashboardSnapshot snapshot();
+
+    void refresh();
+
+    void requestRefresh();
+}
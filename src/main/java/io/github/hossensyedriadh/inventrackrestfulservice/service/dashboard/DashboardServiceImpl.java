@@ -0,0 +1,177 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.dashboard;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.model.DashboardSnapshot;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.count.CountService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.finance.FinanceService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.report.ReportService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class DashboardServiceImpl implements DashboardService {
+    private final CountService countService;
+    private final FinanceService financeService;
+    private final ReportService reportService;
+    private final ProductRepository productRepository;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final Timer refreshTimer;
+
+    private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+
+    private volatile DashboardSnapshot snapshot;
+    private volatile long refreshedAt;
+
+    @Value("${dashboard.write-debounce-millis:2000}")
+    private long writeDebounceMillis;
+
+    @Value("${dashboard.max-staleness-millis:300000}")
+    private long maxStalenessMillis;
+
+    @Autowired
+    public DashboardServiceImpl(CountService countService, FinanceService financeService, ReportService reportService,
+                                ProductRepository productRepository, MeterRegistry meterRegistry) {
+        this.countService = countService;
+        this.financeService = financeService;
+        this.reportService = reportService;
+        this.productRepository = productRepository;
+
+        this.scheduledExecutorService = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newSingleThreadScheduledExecutor(), "dashboard-service");
+        this.refreshTimer = Timer.builder("inventrack.dashboard.refresh").description("Time taken to recompute the dashboard snapshot")
+                .publishPercentileHistogram().register(meterRegistry);
+        Gauge.builder("inventrack.dashboard.age", this, service -> service.snapshot == null ? -1
+                        : TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - service.refreshedAt))
+                .description("Age of the dashboard snapshot in seconds, -1 before the first refresh")
+                .baseUnit("seconds").register(meterRegistry);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        this.scheduledExecutorService.shutdownNow();
+    }
+
+    @Override
+    public DashboardSnapshot snapshot() {
+        DashboardSnapshot current = this.snapshot;
+
+        if (this.isFresh(current)) {
+            return current;
+        }
+
+        try {
+            this.refreshIfStale();
+        } catch (RuntimeException e) {
+            if (current == null) {
+                throw e;
+            }
+
+            log.warn("Serving a stale dashboard snapshot, refresh failed: {}", e.getMessage());
+        }
+
+        return this.snapshot;
+    }
+
+    private boolean isFresh(DashboardSnapshot current) {
+        return current != null && System.nanoTime() - this.refreshedAt < TimeUnit.MILLISECONDS.toNanos(this.maxStalenessMillis);
+    }
+
+    // requests that found the snapshot stale queue up on the lock, only the first one recomputes it
+    private synchronized void refreshIfStale() {
+        if (!this.isFresh(this.snapshot)) {
+            this.refresh();
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelay = 0, fixedDelayString = "${dashboard.refresh-interval-millis:60000}")
+    public synchronized void refresh() {
+        this.refreshPending.set(false);
+
+        DashboardSnapshot current = this.snapshot;
+        DashboardSnapshot computed = this.refreshTimer.record(() -> this.compute(current));
+
+        this.snapshot = computed;
+        this.refreshedAt = System.nanoTime();
+
+        if (current == null || current.getVersion() != computed.getVersion()) {
+            log.debug("Dashboard snapshot refreshed, version: {}", computed.getVersion());
+        }
+    }
+
+    @Override
+    public void requestRefresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleRefresh();
+                }
+            });
+        } else {
+            this.scheduleRefresh();
+        }
+    }
+
+    private void scheduleRefresh() {
+        if (this.refreshPending.compareAndSet(false, true)) {
+            this.scheduledExecutorService.schedule(() -> {
+                try {
+                    this.refresh();
+                } catch (RuntimeException e) {
+                    log.error("Failed to refresh dashboard snapshot", e);
+                }
+            }, this.writeDebounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private DashboardSnapshot compute(DashboardSnapshot previous) {
+        double totalSales = this.countService.totalSales();
+        double totalCost = this.countService.totalCost();
+        int unitsSold = this.countService.unitsSold();
+        double stockValue = this.countService.stockAvailable();
+        long productCount = this.productRepository.count();
+        Map<String, Double> financeSummary = new TreeMap<>(this.financeService.getSummaryData());
+        Map<Integer, Map<String, Double>> historicalFinanceSummary = new TreeMap<>(this.financeService.getHistoricalSummary());
+        historicalFinanceSummary.replaceAll((year, summary) -> new TreeMap<>(summary));
+        Map<Integer, Integer> saleOrderCount = new TreeMap<>(this.reportService.saleOrderCount());
+        Map<Integer, Integer> unitsSoldByYear = new TreeMap<>(this.reportService.unitsSold());
+        Map<Integer, Integer> purchaseOrderCount = new TreeMap<>(this.reportService.purchaseOrderCount());
+
+        String content = String.join("\n", String.valueOf(totalSales), String.valueOf(totalCost), String.valueOf(unitsSold),
+                String.valueOf(stockValue), String.valueOf(productCount), financeSummary.toString(),
+                historicalFinanceSummary.toString(), saleOrderCount.toString(), unitsSoldByYear.toString(),
+                purchaseOrderCount.toString());
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        if (previous != null && previous.getETag().equals(eTag)) {
+            return previous;
+        }
+
+        return new DashboardSnapshot(previous == null ? 1 : previous.getVersion() + 1, LocalDateTime.now(ZoneId.systemDefault()),
+                totalSales, totalCost, unitsSold, stockValue, productCount, financeSummary,
+                historicalFinanceSummary, saleOrderCount, unitsSoldByYear, purchaseOrderCount, eTag);
+    }
+}
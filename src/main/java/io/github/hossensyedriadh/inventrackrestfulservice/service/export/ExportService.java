@@ -0,0 +1,15 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.export;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface ExportService {
+    void exportSales(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException;
+
+    void exportPurchaseOrders(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException;
+
+    void exportFinanceRecords(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException;
+}
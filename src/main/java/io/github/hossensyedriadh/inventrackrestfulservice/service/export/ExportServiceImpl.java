@@ -0,0 +1,200 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.FinanceRecord;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.PurchaseOrder;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Sale;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.ExportFormat;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.FinanceRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.PurchaseOrderRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+    private final SaleRepository saleRepository;
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final FinanceRepository financeRepository;
+    private final EntityManager entityManager;
+
+    @Autowired
+    public ExportServiceImpl(SaleRepository saleRepository, PurchaseOrderRepository purchaseOrderRepository,
+                             FinanceRepository financeRepository, EntityManager entityManager) {
+        this.saleRepository = saleRepository;
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.financeRepository = financeRepository;
+        this.entityManager = entityManager;
+    }
+
+    // matches the fetch size hint on the streaming queries, so each chunk maps to one round trip
+    private static final int chunkSize = 500;
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private static final Map<String, Function<Sale, Object>> saleColumns = new LinkedHashMap<>();
+    private static final Map<String, Function<PurchaseOrder, Object>> purchaseOrderColumns = new LinkedHashMap<>();
+    private static final Map<String, Function<FinanceRecord, Object>> financeRecordColumns = new LinkedHashMap<>();
+
+    static {
+        saleColumns.put("id", Sale::getId);
+        saleColumns.put("added_on", sale -> sale.getAddedOn().toString());
+        saleColumns.put("customer_phone", sale -> sale.getCustomer().getPhoneNo());
+        saleColumns.put("customer_name", sale -> sale.getCustomer().getName());
+        saleColumns.put("total_payable", Sale::getTotalPayable);
+        saleColumns.put("total_due", Sale::getTotalDue);
+        saleColumns.put("payment_status", sale -> sale.getPaymentStatus().name());
+        saleColumns.put("payment_method", sale -> sale.getPaymentMethod().getName());
+        saleColumns.put("order_status", sale -> sale.getOrderStatus().name());
+        saleColumns.put("delivery_medium", sale -> sale.getDeliveryMedium().getName());
+
+        purchaseOrderColumns.put("id", PurchaseOrder::getId);
+        purchaseOrderColumns.put("added_on", order -> order.getAddedOn().toString());
+        purchaseOrderColumns.put("product_name", PurchaseOrder::getProductName);
+        purchaseOrderColumns.put("category", order -> order.getCategory().getName());
+        purchaseOrderColumns.put("supplier_phone", order -> order.getSupplier().getPhoneNo());
+        purchaseOrderColumns.put("supplier_name", order -> order.getSupplier().getName());
+        purchaseOrderColumns.put("quantity", PurchaseOrder::getQuantity);
+        purchaseOrderColumns.put("total_purchase_price", PurchaseOrder::getTotalPurchasePrice);
+        purchaseOrderColumns.put("shipping_costs", PurchaseOrder::getShippingCosts);
+        purchaseOrderColumns.put("other_costs", PurchaseOrder::getOtherCosts);
+        purchaseOrderColumns.put("selling_price", PurchaseOrder::getSellingPricePerUnit);
+        purchaseOrderColumns.put("status", order -> order.getStatus().name());
+        purchaseOrderColumns.put("type", order -> order.getOrderType().name());
+
+        financeRecordColumns.put("id", FinanceRecord::getId);
+        financeRecordColumns.put("year", FinanceRecord::getYear);
+        financeRecordColumns.put("month", FinanceRecord::getMonth);
+        financeRecordColumns.put("type", record -> record.getType().name());
+        financeRecordColumns.put("value", FinanceRecord::getValue);
+        financeRecordColumns.put("sale_order_ref", record -> record.getSale() != null ? record.getSale().getId() : null);
+        financeRecordColumns.put("purchase_order_ref", record -> record.getPurchaseOrder() != null
+                ? record.getPurchaseOrder().getId() : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportSales(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<Sale> sales = saleRepository.streamSalesAddedBetween(from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            this.write(sales, saleColumns, format, outputStream);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPurchaseOrders(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<PurchaseOrder> orders = purchaseOrderRepository.streamPurchaseOrdersAddedBetween(from.atStartOfDay(),
+                to.plusDays(1).atStartOfDay())) {
+            this.write(orders, purchaseOrderColumns, format, outputStream);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportFinanceRecords(LocalDate from, LocalDate to, ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<FinanceRecord> records = financeRepository.streamFinanceRecordsBetween(from.getYear(), from.getMonthValue(),
+                to.getYear(), to.getMonthValue())) {
+            this.write(records, financeRecordColumns, format, outputStream);
+        }
+    }
+
+    private <T> void write(Stream<T> rows, Map<String, Function<T, Object>> columns, ExportFormat format,
+                           OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        JsonGenerator jsonGenerator = null;
+
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", columns.keySet()));
+            writer.write("\r\n");
+        } else {
+            jsonGenerator = jsonFactory.createGenerator(writer);
+            jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            jsonGenerator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            jsonGenerator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        }
+
+        Iterator<T> iterator = rows.iterator();
+        int written = 0;
+
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+
+            if (jsonGenerator != null) {
+                this.writeJsonLine(jsonGenerator, row, columns);
+            } else {
+                this.writeCsvLine(writer, row, columns);
+            }
+
+            written += 1;
+
+            if (written % chunkSize == 0) {
+                // rows already written are not needed anymore, keep the persistence context from growing with the export
+                this.entityManager.clear();
+
+                if (jsonGenerator != null) {
+                    jsonGenerator.flush();
+                }
+                writer.flush();
+            }
+        }
+
+        if (jsonGenerator != null) {
+            jsonGenerator.flush();
+            if (written > 0) {
+                writer.write("\n");
+            }
+        }
+        writer.flush();
+    }
+
+    private <T> void writeCsvLine(Writer writer, T row, Map<String, Function<T, Object>> columns) throws IOException {
+        boolean first = true;
+
+        for (Function<T, Object> column : columns.values()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+
+            Object value = column.apply(row);
+
+            if (value != null) {
+                String text = value.toString();
+
+                if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                    writer.write('"');
+                    writer.write(text.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(text);
+                }
+            }
+        }
+
+        writer.write("\r\n");
+    }
+
+    private <T> void writeJsonLine(JsonGenerator jsonGenerator, T row, Map<String, Function<T, Object>> columns) throws IOException {
+        jsonGenerator.writeStartObject();
+
+        for (Map.Entry<String, Function<T, Object>> column : columns.entrySet()) {
+            jsonGenerator.writeFieldName(column.getKey());
+            jsonGenerator.writeObject(column.getValue().apply(row));
+        }
+
+        jsonGenerator.writeEndObject();
+    }
+}
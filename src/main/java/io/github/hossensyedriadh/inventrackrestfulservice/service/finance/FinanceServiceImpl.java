@@ -8,6 +8,7 @@ import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleIte
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class FinanceServiceImpl implements FinanceService {
     private final FinanceRepository financeRepository;
     private final SaleRepository saleRepository;
@@ -0,0 +1,7 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.image;
+
+public interface ImageRenditionService {
+    void createProductImageRenditions(String productId, String imageTag, String objectName, byte[] content);
+
+    void createAvatarRenditions(String profileId, String avatarUrl, String objectName, byte[] content);
+}
@@ -0,0 +1,226 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.image;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage.BlobStore;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductImageRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProfileRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.product.ProductImageCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class ImageRenditionServiceImpl implements ImageRenditionService {
+    private final BlobStore blobStore;
+    private final ProductImageRepository productImageRepository;
+    private final ProfileRepository profileRepository;
+    private final ProductImageCache productImageCache;
+    private final ThreadPoolExecutor executorService;
+
+    @Autowired
+    public ImageRenditionServiceImpl(BlobStore blobStore, ProductImageRepository productImageRepository,
+                                     ProfileRepository profileRepository, ProductImageCache productImageCache,
+                                     MeterRegistry meterRegistry) {
+        this.blobStore = blobStore;
+        this.productImageRepository = productImageRepository;
+        this.profileRepository = profileRepository;
+        this.productImageCache = productImageCache;
+
+        this.executorService = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(16));
+        this.executorService.allowCoreThreadTimeOut(true);
+        new ExecutorServiceMetrics(this.executorService, "image-rendition-service", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Value("${images.renditions.thumb-size}")
+    private int thumbSize;
+
+    @Value("${images.renditions.medium-size}")
+    private int mediumSize;
+
+    private static final String productsFolderName = "products";
+    private static final String avatarsFolderName = "avatars";
+    private static final float jpegQuality = 0.8f;
+
+    @PreDestroy
+    protected void shutdown() {
+        this.executorService.shutdown();
+    }
+
+    @Override
+    public void createProductImageRenditions(String productId, String imageTag, String objectName, byte[] content) {
+        this.submit(objectName, () -> {
+            String[] urls = this.createRenditions(productsFolderName, objectName, content);
+
+            if (urls != null) {
+                this.productImageRepository.updateRenditions(imageTag, urls[0], urls[1]);
+                this.productImageCache.invalidate(productId);
+            }
+        });
+    }
+
+    @Override
+    public void createAvatarRenditions(String profileId, String avatarUrl, String objectName, byte[] content) {
+        this.submit(objectName, () -> {
+            String[] urls = this.createRenditions(avatarsFolderName, objectName, content);
+
+            if (urls != null) {
+                this.profileRepository.updateAvatarRenditions(profileId, avatarUrl, urls[0], urls[1]);
+            }
+        });
+    }
+
+    private void submit(String objectName, Runnable task) {
+        try {
+            this.executorService.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Failed to create renditions of {}", objectName, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Image rendition queue is full, serving originals of {}", objectName);
+        }
+    }
+
+    private String[] createRenditions(String folderName, String objectName, byte[] content) {
+        BufferedImage source;
+
+        try {
+            source = this.read(content, this.mediumSize);
+        } catch (IOException e) {
+            log.warn("Failed to decode image {}: {}", objectName, e.getMessage());
+            return null;
+        }
+
+        if (source == null) {
+            log.warn("Unsupported image format, no renditions created for {}", objectName);
+            return null;
+        }
+
+        try {
+            String medium = this.store(folderName, objectName, "medium", this.scale(source, this.mediumSize));
+            String thumb = this.store(folderName, objectName, "thumb", this.scale(source, this.thumbSize));
+
+            if (thumb == null || medium == null) {
+                return null;
+            }
+
+            return new String[]{thumb, medium};
+        } catch (IOException e) {
+            log.error("Failed to encode renditions of {}", objectName, e);
+            return null;
+        }
+    }
+
+    private BufferedImage read(byte[] content, int targetSize) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+
+            try {
+                reader.setInput(inputStream, true, true);
+
+                int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longestSide / (targetSize * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source, int bound) {
+        int longestSide = Math.max(source.getWidth(), source.getHeight());
+
+        if (longestSide <= bound && source.getType() != BufferedImage.TYPE_CUSTOM) {
+            return source;
+        }
+
+        double ratio = Math.min(1.0, (double) bound / longestSide);
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return scaled;
+    }
+
+    private String store(String folderName, String objectName, String rendition, BufferedImage image) throws IOException {
+        boolean alpha = image.getColorModel().hasAlpha();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        if (alpha) {
+            ImageIO.write(image, "png", outputStream);
+        } else {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+
+            try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+
+                writer.setOutput(imageOutputStream);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+        }
+
+        HashMap<String, String> metadata = new HashMap<>();
+        metadata.put("Original", objectName);
+        metadata.put("Rendition", rendition);
+
+        byte[] bytes = outputStream.toByteArray();
+
+        return this.blobStore.upload(folderName, objectName + "_" + rendition, metadata, new ByteArrayInputStream(bytes), bytes.length,
+                alpha ? MediaType.IMAGE_PNG_VALUE : MediaType.IMAGE_JPEG_VALUE);
+    }
+}
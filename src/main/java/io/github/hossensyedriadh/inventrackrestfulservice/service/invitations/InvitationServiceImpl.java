@@ -1,29 +1,26 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.service.invitations;
 
-import io.github.hossensyedriadh.inventrackrestfulservice.entity.Profile;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.SignupInvitation;
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.InvitationInvalidationRemarks;
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.InvitationStatus;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.MailMessage;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProfileRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SignupInvitationRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.CurrentAuthenticationContext;
-import lombok.extern.log4j.Log4j;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.outbox.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.PostConstruct;
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -32,40 +29,33 @@ import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-@Log4j
 @Service
+@Transactional(readOnly = true)
 public class InvitationServiceImpl implements InvitationService {
     private final SignupInvitationRepository signupInvitationRepository;
     private final ProfileRepository profileRepository;
     private final CurrentAuthenticationContext currentAuthenticationContext;
-    private final JavaMailSender javaMailSender;
-    private final SpringTemplateEngine springTemplateEngine;
+    private final OutboxService outboxService;
     private final HttpServletRequest httpServletRequest;
     private final ExecutorService executorService;
 
     @Autowired
     public InvitationServiceImpl(SignupInvitationRepository signupInvitationRepository, ProfileRepository profileRepository,
-                                 CurrentAuthenticationContext currentAuthenticationContext, JavaMailSender javaMailSender,
-                                 SpringTemplateEngine springTemplateEngine, HttpServletRequest httpServletRequest) {
+                                 CurrentAuthenticationContext currentAuthenticationContext, OutboxService outboxService,
+                                 HttpServletRequest httpServletRequest,
+                                 MeterRegistry meterRegistry) {
         this.signupInvitationRepository = signupInvitationRepository;
         this.profileRepository = profileRepository;
         this.currentAuthenticationContext = currentAuthenticationContext;
-        this.javaMailSender = javaMailSender;
-        this.springTemplateEngine = springTemplateEngine;
+        this.outboxService = outboxService;
         this.httpServletRequest = httpServletRequest;
 
-        this.executorService = Executors.newSingleThreadExecutor();
+        this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, Executors.newSingleThreadExecutor(), "invitation-service");
     }
 
     @Value("${client-application.signup-form-url}")
     private String baseUrl;
 
-    @Value("${spring.mail.default-encoding}")
-    private String charset;
-
-    @Value("${accounts.mail.from}")
-    private String mailFrom;
-
     private int invitationValidityHours;
 
     @Value("${accounts.signup-invitation.validity}")
@@ -106,14 +96,12 @@ public class InvitationServiceImpl implements InvitationService {
     public SignupInvitation invitation(String id) {
         this.checkAndExpireInvitations();
 
-        if (this.signupInvitationRepository.findById(id).isPresent()) {
-            return this.signupInvitationRepository.findById(id).get();
-        }
-
-        throw new ResourceException("No invitation found with ID: " + id, HttpStatus.BAD_REQUEST, httpServletRequest);
+        return this.signupInvitationRepository.findById(id).orElseThrow(() -> new ResourceException(
+                "No invitation found with ID: " + id, HttpStatus.BAD_REQUEST, httpServletRequest));
     }
 
     @Override
+    @Transactional
     public SignupInvitation create(SignupInvitation signupInvitation) {
         this.checkAndExpireInvitations();
 
@@ -126,10 +114,7 @@ public class InvitationServiceImpl implements InvitationService {
                     httpServletRequest);
         }
 
-        List<Profile> profiles = this.profileRepository.findAll().stream()
-                .filter(profile -> profile.getEmail().equals(signupInvitation.getRecipientEmail())).toList();
-
-        if (profiles.size() > 0) {
+        if (this.profileRepository.existsByEmail(signupInvitation.getRecipientEmail())) {
             throw new ResourceException("User exists with the defined email", HttpStatus.BAD_REQUEST, httpServletRequest);
         }
 
@@ -144,11 +129,14 @@ public class InvitationServiceImpl implements InvitationService {
     }
 
     @Override
+    @Transactional
     public SignupInvitation invalidate(String id) {
         this.checkAndExpireInvitations();
 
-        if (this.signupInvitationRepository.findById(id).isPresent()) {
-            SignupInvitation invitation = this.signupInvitationRepository.findById(id).get();
+        Optional<SignupInvitation> existingInvitation = this.signupInvitationRepository.findById(id);
+
+        if (existingInvitation.isPresent()) {
+            SignupInvitation invitation = existingInvitation.get();
             invitation.setStatus(InvitationStatus.INVALID);
             invitation.setInvalidationRemarks(InvitationInvalidationRemarks.REVOKED);
             invitation.setInvalidatedOn(LocalDateTime.now(ZoneId.systemDefault()));
@@ -159,33 +147,16 @@ public class InvitationServiceImpl implements InvitationService {
         throw new ResourceException("No invitation found with ID: " + id, HttpStatus.BAD_REQUEST, httpServletRequest);
     }
 
-    @Async
-    protected void sendInvitationEmail(SignupInvitation invitation) {
-        this.executorService.submit(() -> {
-            Context context = new Context(Locale.ENGLISH);
-            String expiryTimeStamp = invitation.getExpiresOn().format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a"));
-
-            Map<String, Object> mailVariables = new HashMap<>();
-            mailVariables.put("baseUrl", this.baseUrl);
-            mailVariables.put("token", invitation.getToken());
-            mailVariables.put("authority", invitation.getForAuthority().getValue());
-            mailVariables.put("expiry", expiryTimeStamp);
-            context.setVariables(mailVariables);
-
-            try {
-                MimeMessage message = this.javaMailSender.createMimeMessage();
-                MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, this.charset);
-                messageHelper.setSubject("Signup Invitation - Inventrack");
-                messageHelper.setFrom(this.mailFrom);
-                messageHelper.setTo(invitation.getRecipientEmail());
-
-                final String htmlContent = this.springTemplateEngine.process("mail/invitation.html", context);
-                messageHelper.setText(htmlContent, true);
-                this.javaMailSender.send(message);
-            } catch (MessagingException e) {
-                e.printStackTrace();
-                log.error("Failed to send email", e);
-            }
-        });
+    private void sendInvitationEmail(SignupInvitation invitation) {
+        String expiryTimeStamp = invitation.getExpiresOn().format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a"));
+
+        Map<String, Object> mailVariables = new HashMap<>();
+        mailVariables.put("baseUrl", this.baseUrl);
+        mailVariables.put("token", invitation.getToken());
+        mailVariables.put("authority", invitation.getForAuthority().getValue());
+        mailVariables.put("expiry", expiryTimeStamp);
+
+        this.outboxService.sendMail(new MailMessage(invitation.getRecipientEmail(), "Signup Invitation - Inventrack",
+                "mail/invitation.html", mailVariables));
     }
 }
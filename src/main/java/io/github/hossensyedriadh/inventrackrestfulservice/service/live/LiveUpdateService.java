@@ -0,0 +1,10 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.live;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.model.LiveUpdate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface LiveUpdateService {
+    SseEmitter subscribe();
+
+    void publish(LiveUpdate update);
+}
@@ -0,0 +1,299 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.live;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.LiveUpdateType;
+import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.LiveUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class LiveUpdateServiceImpl implements LiveUpdateService {
+    private final HttpServletRequest httpServletRequest;
+    private final MeterRegistry meterRegistry;
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ExecutorService executorService;
+
+    @Value("${live-updates.sender-threads:2}")
+    private int senderThreads;
+
+    @Value("${live-updates.max-subscribers:200}")
+    private int maxSubscribers;
+
+    @Value("${live-updates.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${live-updates.emitter-timeout-millis:1800000}")
+    private long emitterTimeoutMillis;
+
+    @Value("${live-updates.write-timeout-millis:5000}")
+    private long writeTimeoutMillis;
+
+    @Autowired
+    public LiveUpdateServiceImpl(HttpServletRequest httpServletRequest, MeterRegistry meterRegistry) {
+        this.httpServletRequest = httpServletRequest;
+        this.meterRegistry = meterRegistry;
+
+        this.sentCounter = Counter.builder("inventrack.live-updates.sent").description("Live update events written to subscribers")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("inventrack.live-updates.coalesced")
+                .description("Live update events replaced by a newer event for the same product before being sent")
+                .register(meterRegistry);
+        Gauge.builder("inventrack.live-updates.subscribers", this.subscribers, Set::size)
+                .description("Connected live update subscribers").register(meterRegistry);
+    }
+
+    @PostConstruct
+    protected void initialize() {
+        // a subscriber has at most one drain running, so a pool that can grow to one thread per subscriber
+        // never queues the drains of responsive clients behind a stalled one
+        this.executorService = ExecutorServiceMetrics.monitor(this.meterRegistry, new ThreadPoolExecutor(this.senderThreads,
+                Math.max(this.senderThreads, this.maxSubscribers), 60, TimeUnit.SECONDS, new SynchronousQueue<>()),
+                "live-update-service");
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Map<String, LiveUpdate> pending = new LinkedHashMap<>();
+        private boolean heartbeatDue;
+        private boolean draining;
+        private boolean closed;
+        private Thread writer;
+        private long writeStartedAt;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        if (this.subscribers.size() >= this.maxSubscribers) {
+            throw new ResourceException("Too many live update subscribers, try again later", HttpStatus.SERVICE_UNAVAILABLE,
+                    httpServletRequest);
+        }
+
+        SseEmitter emitter = new SseEmitter(this.emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+
+        emitter.onCompletion(() -> this.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> this.disconnect(subscriber, "timeout"));
+        emitter.onError(throwable -> this.disconnect(subscriber, "error"));
+
+        this.subscribers.add(subscriber);
+
+        synchronized (subscriber) {
+            subscriber.heartbeatDue = true;
+        }
+
+        this.schedule(subscriber);
+
+        return emitter;
+    }
+
+    @Override
+    public void publish(LiveUpdate update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(update);
+                }
+            });
+        } else {
+            this.dispatch(update);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${live-updates.heartbeat-interval-millis:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : this.subscribers) {
+            synchronized (subscriber) {
+                subscriber.heartbeatDue = true;
+            }
+
+            this.schedule(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void disconnectStalled() {
+        long timeout = TimeUnit.MILLISECONDS.toNanos(this.writeTimeoutMillis);
+
+        for (Subscriber subscriber : this.subscribers) {
+            boolean stalled;
+
+            synchronized (subscriber) {
+                stalled = subscriber.writer != null && System.nanoTime() - subscriber.writeStartedAt > timeout;
+
+                if (stalled) {
+                    // the connector releases a blocked write at the latest after its own write timeout
+                    subscriber.writer.interrupt();
+                }
+            }
+
+            if (stalled) {
+                this.disconnect(subscriber, "stalled");
+            }
+        }
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        this.executorService.shutdownNow();
+        this.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void dispatch(LiveUpdate update) {
+        String key = update.getType() == LiveUpdateType.STOCK_CHANGED ? "stock:" + update.getProductId()
+                : update.getType().name() + ":" + this.sequence.incrementAndGet();
+
+        for (Subscriber subscriber : this.subscribers) {
+            boolean overflow;
+
+            synchronized (subscriber) {
+                // re-inserting a key keeps its queue position, so a product's stock is sent once with the latest value
+                if (subscriber.pending.put(key, update) != null) {
+                    this.coalescedCounter.increment();
+                }
+
+                overflow = subscriber.pending.size() > this.bufferSize;
+            }
+
+            if (overflow) {
+                this.disconnect(subscriber, "overflow");
+            } else {
+                this.schedule(subscriber);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        synchronized (subscriber) {
+            if (subscriber.draining || subscriber.closed) {
+                return;
+            }
+
+            subscriber.draining = true;
+        }
+
+        try {
+            this.executorService.execute(() -> this.drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            this.disconnect(subscriber, "rejected");
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            List<LiveUpdate> updates;
+            boolean heartbeat;
+
+            synchronized (subscriber) {
+                if (subscriber.closed) {
+                    subscriber.draining = false;
+                    break;
+                }
+
+                if (subscriber.pending.isEmpty() && !subscriber.heartbeatDue) {
+                    subscriber.draining = false;
+                    return;
+                }
+
+                updates = new ArrayList<>(subscriber.pending.values());
+                heartbeat = subscriber.heartbeatDue;
+                subscriber.pending.clear();
+                subscriber.heartbeatDue = false;
+            }
+
+            synchronized (subscriber) {
+                subscriber.writer = Thread.currentThread();
+                subscriber.writeStartedAt = System.nanoTime();
+            }
+
+            try {
+                if (heartbeat) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+
+                for (LiveUpdate update : updates) {
+                    subscriber.emitter.send(SseEmitter.event().name(update.getType().name().toLowerCase().replace('_', '-'))
+                            .data(update, MediaType.APPLICATION_JSON));
+                }
+
+                this.sentCounter.increment(updates.size());
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Failed to write live update: {}", e.getMessage());
+                this.disconnect(subscriber, "error");
+            } finally {
+                synchronized (subscriber) {
+                    subscriber.writer = null;
+                    // an interrupt aimed at this write must not carry over to the next subscriber's drain
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        // disconnected while this drain was writing, the emitter is completed here once the write has returned
+        subscriber.emitter.complete();
+    }
+
+    private void disconnect(Subscriber subscriber, String reason) {
+        if (this.subscribers.remove(subscriber)) {
+            this.meterRegistry.counter("inventrack.live-updates.disconnects", "reason", reason).increment();
+
+            boolean writing;
+
+            synchronized (subscriber) {
+                subscriber.pending.clear();
+                subscriber.closed = true;
+                writing = subscriber.draining;
+            }
+
+            // completing the emitter waits for its monitor, which a stalled send holds until the connector gives
+            // up, so a running drain completes it itself and never the request or scheduler thread calling this
+            if (!writing) {
+                try {
+                    this.executorService.execute(subscriber.emitter::complete);
+                } catch (RejectedExecutionException e) {
+                    // no drain is running, so nothing holds the emitter's monitor
+                    subscriber.emitter.complete();
+                }
+            }
+        }
+    }
+}
@@ -3,19 +3,18 @@ package io.github.hossensyedriadh.inventrackrestfulservice.service.misc;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.DeliveryMedium;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.PaymentMethod;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.ProductCategory;
-
-import java.util.List;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ReferenceData;
 
 public interface MiscService {
-    List<ProductCategory> getProductCategories();
+    ReferenceData<ProductCategory> getProductCategories();
 
     ProductCategory addProductCategory(ProductCategory category);
 
-    List<PaymentMethod> getPaymentMethods();
+    ReferenceData<PaymentMethod> getPaymentMethods();
 
     PaymentMethod addPaymentMethod(PaymentMethod paymentMethod);
 
-    List<DeliveryMedium> getDeliveryMediums();
+    ReferenceData<DeliveryMedium> getDeliveryMediums();
 
     DeliveryMedium addDeliveryMedium(DeliveryMedium deliveryMedium);
 }
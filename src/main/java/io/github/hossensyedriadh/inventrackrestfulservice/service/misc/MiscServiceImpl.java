@@ -4,41 +4,49 @@ import io.github.hossensyedriadh.inventrackrestfulservice.entity.DeliveryMedium;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.PaymentMethod;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.ProductCategory;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ReferenceData;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.DeliveryMediumRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.PaymentMethodRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductCategoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.List;
 
 @Service
+@Transactional(readOnly = true)
 public class MiscServiceImpl implements MiscService {
     private final ProductCategoryRepository productCategoryRepository;
     private final PaymentMethodRepository paymentMethodRepository;
     private final DeliveryMediumRepository deliveryMediumRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final HttpServletRequest httpServletRequest;
 
     @Autowired
     public MiscServiceImpl(ProductCategoryRepository productCategoryRepository, PaymentMethodRepository paymentMethodRepository,
-                           DeliveryMediumRepository deliveryMediumRepository, HttpServletRequest httpServletRequest) {
+                           DeliveryMediumRepository deliveryMediumRepository, ReferenceDataCache referenceDataCache,
+                           HttpServletRequest httpServletRequest) {
         this.productCategoryRepository = productCategoryRepository;
         this.paymentMethodRepository = paymentMethodRepository;
         this.deliveryMediumRepository = deliveryMediumRepository;
+        this.referenceDataCache = referenceDataCache;
         this.httpServletRequest = httpServletRequest;
     }
 
     @Override
-    public List<ProductCategory> getProductCategories() {
-        return productCategoryRepository.findAll();
+    public ReferenceData<ProductCategory> getProductCategories() {
+        return referenceDataCache.getProductCategories();
     }
 
     @Override
+    @Transactional
     public ProductCategory addProductCategory(ProductCategory category) {
-        if (productCategoryRepository.findById(category.getName()).isEmpty()) {
-            return productCategoryRepository.saveAndFlush(category);
+        if (!referenceDataCache.containsProductCategory(category.getName())) {
+            ProductCategory addedCategory = productCategoryRepository.saveAndFlush(category);
+            referenceDataCache.invalidate();
+            return addedCategory;
         }
 
         throw new ResourceException("Product category " + category.getName() + " already exists",
@@ -46,14 +54,17 @@ public class MiscServiceImpl implements MiscService {
     }
 
     @Override
-    public List<PaymentMethod> getPaymentMethods() {
-        return paymentMethodRepository.findAll();
+    public ReferenceData<PaymentMethod> getPaymentMethods() {
+        return referenceDataCache.getPaymentMethods();
     }
 
     @Override
+    @Transactional
     public PaymentMethod addPaymentMethod(PaymentMethod paymentMethod) {
-        if (paymentMethodRepository.findById(paymentMethod.getName()).isEmpty()) {
-            return paymentMethodRepository.saveAndFlush(paymentMethod);
+        if (!referenceDataCache.containsPaymentMethod(paymentMethod.getName())) {
+            PaymentMethod addedMethod = paymentMethodRepository.saveAndFlush(paymentMethod);
+            referenceDataCache.invalidate();
+            return addedMethod;
         }
 
         throw new ResourceException("Payment method " + paymentMethod.getName() + " already exists",
@@ -61,14 +72,17 @@ public class MiscServiceImpl implements MiscService {
     }
 
     @Override
-    public List<DeliveryMedium> getDeliveryMediums() {
-        return deliveryMediumRepository.findAll();
+    public ReferenceData<DeliveryMedium> getDeliveryMediums() {
+        return referenceDataCache.getDeliveryMediums();
     }
 
     @Override
+    @Transactional
     public DeliveryMedium addDeliveryMedium(DeliveryMedium deliveryMedium) {
-        if (deliveryMediumRepository.findById(deliveryMedium.getName()).isEmpty()) {
-            return deliveryMediumRepository.saveAndFlush(deliveryMedium);
+        if (!referenceDataCache.containsDeliveryMedium(deliveryMedium.getName())) {
+            DeliveryMedium addedMedium = deliveryMediumRepository.saveAndFlush(deliveryMedium);
+            referenceDataCache.invalidate();
+            return addedMedium;
         }
 
         throw new ResourceException("Delivery medium " + deliveryMedium.getName() + " already exists",
@@ -0,0 +1,136 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.misc;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.DeliveryMedium;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.PaymentMethod;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.ProductCategory;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ReferenceData;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.DeliveryMediumRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.PaymentMethodRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductCategoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class ReferenceDataCache {
+    private final ProductCategoryRepository productCategoryRepository;
+    private final PaymentMethodRepository paymentMethodRepository;
+    private final DeliveryMediumRepository deliveryMediumRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public ReferenceDataCache(ProductCategoryRepository productCategoryRepository, PaymentMethodRepository paymentMethodRepository,
+                              DeliveryMediumRepository deliveryMediumRepository) {
+        this.productCategoryRepository = productCategoryRepository;
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.deliveryMediumRepository = deliveryMediumRepository;
+    }
+
+    @Value("${reference-data.cache.expiry-mins}")
+    private long expiryMins;
+
+    private static final class Snapshot {
+        private final ReferenceData<ProductCategory> productCategories;
+        private final ReferenceData<PaymentMethod> paymentMethods;
+        private final ReferenceData<DeliveryMedium> deliveryMediums;
+        private final long loadedAt;
+
+        private Snapshot(ReferenceData<ProductCategory> productCategories, ReferenceData<PaymentMethod> paymentMethods,
+                         ReferenceData<DeliveryMedium> deliveryMediums, long loadedAt) {
+            this.productCategories = productCategories;
+            this.paymentMethods = paymentMethods;
+            this.deliveryMediums = deliveryMediums;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    public ReferenceData<ProductCategory> getProductCategories() {
+        return this.snapshot().productCategories;
+    }
+
+    public ReferenceData<PaymentMethod> getPaymentMethods() {
+        return this.snapshot().paymentMethods;
+    }
+
+    public ReferenceData<DeliveryMedium> getDeliveryMediums() {
+        return this.snapshot().deliveryMediums;
+    }
+
+    public boolean containsProductCategory(String name) {
+        return this.getProductCategories().getNames().contains(name);
+    }
+
+    public boolean containsPaymentMethod(String name) {
+        return this.getPaymentMethods().getNames().contains(name);
+    }
+
+    public boolean containsDeliveryMedium(String name) {
+        return this.getDeliveryMediums().getNames().contains(name);
+    }
+
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            this.clear();
+        }
+    }
+
+    private void clear() {
+        this.generation.incrementAndGet();
+        this.snapshot = null;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = this.snapshot;
+
+        if (current != null && System.nanoTime() - current.loadedAt < TimeUnit.MINUTES.toNanos(this.expiryMins)) {
+            return current;
+        }
+
+        long loadedGeneration = this.generation.get();
+
+        Snapshot loaded = new Snapshot(load(productCategoryRepository::findAll, ProductCategory::getName),
+                load(paymentMethodRepository::findAll, PaymentMethod::getName),
+                load(deliveryMediumRepository::findAll, DeliveryMedium::getName), System.nanoTime());
+
+        synchronized (this) {
+            if (this.generation.get() == loadedGeneration) {
+                this.snapshot = loaded;
+            }
+        }
+
+        return loaded;
+    }
+
+    private static <T extends Serializable> ReferenceData<T> load(Supplier<List<T>> finder, Function<T, String> name) {
+        List<T> values = List.copyOf(finder.get());
+        Set<String> names = new TreeSet<>();
+        values.forEach(value -> names.add(name.apply(value)));
+
+        String version = "\"" + DigestUtils.md5DigestAsHex(String.join("\n", names).getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        return new ReferenceData<>(values, Set.copyOf(names), version);
+    }
+}
@@ -9,82 +9,74 @@ import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.InvitationI
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.InvitationStatus;
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.InvitedUserAuthority;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.MailMessage;
 import io.github.hossensyedriadh.inventrackrestfulservice.model.PasswordResetBody;
 import io.github.hossensyedriadh.inventrackrestfulservice.model.PasswordResetRequest;
 import io.github.hossensyedriadh.inventrackrestfulservice.model.SignupRequest;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.PersistedOtpRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProfileRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SignupInvitationRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.UserRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.outbox.OutboxService;
 import io.github.hossensyedriadh.inventrackrestfulservice.utils.Generator;
-import lombok.extern.log4j.Log4j;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
-@Log4j
 @Service
+@Transactional(readOnly = true)
 public class OpenServiceImpl implements OpenService {
     private final UserRepository userRepository;
+    private final ProfileRepository profileRepository;
     private final PersistedOtpRepository otpRepository;
     private final SignupInvitationRepository invitationRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JavaMailSender javaMailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final OutboxService outboxService;
     private final HttpServletRequest httpServletRequest;
     private final ExecutorService executorService;
 
     @Autowired
-    public OpenServiceImpl(UserRepository userRepository, PersistedOtpRepository otpRepository,
+    public OpenServiceImpl(UserRepository userRepository, ProfileRepository profileRepository,
+                           PersistedOtpRepository otpRepository,
                            SignupInvitationRepository invitationRepository, PasswordEncoder passwordEncoder,
-                           JavaMailSender javaMailSender, SpringTemplateEngine templateEngine,
-                           HttpServletRequest httpServletRequest) {
+                           OutboxService outboxService,
+                           HttpServletRequest httpServletRequest, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.profileRepository = profileRepository;
         this.otpRepository = otpRepository;
         this.invitationRepository = invitationRepository;
         this.passwordEncoder = passwordEncoder;
-        this.javaMailSender = javaMailSender;
-        this.templateEngine = templateEngine;
+        this.outboxService = outboxService;
         this.httpServletRequest = httpServletRequest;
 
-        this.executorService = Executors.newSingleThreadExecutor();
+        this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, Executors.newSingleThreadExecutor(), "open-service");
     }
 
-    @Value("${spring.mail.default-encoding}")
-    private String charset;
-
-    @Value("${accounts.mail.from}")
-    private String mailFrom;
-
     @Override
     public Boolean isUsernameUnique(String username) {
-        return userRepository.findById(username).isEmpty();
+        return !userRepository.existsById(username);
     }
 
     @Override
     public Boolean isEmailUnique(String email) {
-        return userRepository.findAll().stream().noneMatch(user -> user.getProfile().getEmail().equals(email));
+        return !profileRepository.existsByEmail(email);
     }
 
     @Override
@@ -94,6 +86,7 @@ public class OpenServiceImpl implements OpenService {
     }
 
     @Override
+    @Transactional
     public User signUp(SignupRequest signupRequest) {
         if (this.isInvitationTokenValid(signupRequest.getInvitationToken())) {
             SignupInvitation invitation = invitationRepository.findAll().stream().filter(inv -> inv.getToken()
@@ -130,33 +123,15 @@ public class OpenServiceImpl implements OpenService {
         });
     }
 
-    @Async
-    protected void sendSignupSuccessNotification(String username, String email) {
-        this.executorService.submit(() -> {
-            Context context = new Context(Locale.ENGLISH);
-
-            Map<String, Object> mailVariables = new HashMap<>();
-            mailVariables.put("username", username);
-            context.setVariables(mailVariables);
-
-            try {
-                MimeMessage message = this.javaMailSender.createMimeMessage();
-                MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, this.charset);
-                messageHelper.setSubject("Welcome to InvenTrack");
-                messageHelper.setFrom(this.mailFrom);
-                messageHelper.setTo(email);
-
-                final String htmlContent = this.templateEngine.process("mail/welcome.html", context);
-                messageHelper.setText(htmlContent, true);
-                this.javaMailSender.send(message);
-            } catch (MessagingException e) {
-                e.printStackTrace();
-                log.error("Failed to send email", e);
-            }
-        });
+    private void sendSignupSuccessNotification(String username, String email) {
+        Map<String, Object> mailVariables = new HashMap<>();
+        mailVariables.put("username", username);
+
+        this.outboxService.sendMail(new MailMessage(email, "Welcome to InvenTrack", "mail/welcome.html", mailVariables));
     }
 
     @Override
+    @Transactional
     public void requestPasswordReset(String username) {
         boolean isUsername = username.matches("^[a-zA-Z_]{4,75}$");
         boolean isEmail = username.matches("^\\w+([.-]?\\w+)*@\\w+([.-]?\\w+)*(\\.\\w{2,3})+$");
@@ -164,17 +139,11 @@ public class OpenServiceImpl implements OpenService {
         User user;
 
         if (isUsername) {
-            if (userRepository.findById(username).isPresent()) {
-                user = userRepository.findById(username).get();
-            } else {
-                throw new ResourceException("User not found: " + username, HttpStatus.BAD_REQUEST, httpServletRequest);
-            }
+            user = userRepository.findById(username).orElseThrow(() -> new ResourceException("User not found: " + username,
+                    HttpStatus.BAD_REQUEST, httpServletRequest));
         } else if (isEmail) {
-            if (userRepository.findAll().stream().anyMatch(usr -> usr.getProfile().getEmail().equals(username))) {
-                user = userRepository.findAll().stream().filter(usr -> usr.getProfile().getEmail().equals(username)).toList().get(0);
-            } else {
-                throw new ResourceException("User not found: " + username, HttpStatus.BAD_REQUEST, httpServletRequest);
-            }
+            user = userRepository.findByEmail(username).orElseThrow(() -> new ResourceException("User not found: " + username,
+                    HttpStatus.BAD_REQUEST, httpServletRequest));
         } else {
             throw new ResourceException("Invalid username: " + username, HttpStatus.BAD_REQUEST, httpServletRequest);
         }
@@ -199,41 +168,23 @@ public class OpenServiceImpl implements OpenService {
         threadPoolExecutor.allowCoreThreadTimeOut(true);
     }
 
-    @Async
-    protected void sendPasswordResetOtp(String username, String email, String code) {
-        this.executorService.submit(() -> {
-            Context context = new Context(Locale.ENGLISH);
-
-            Map<String, Object> mailVariables = new HashMap<>();
-            mailVariables.put("datetime", LocalDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a")));
-            mailVariables.put("username", username);
-            mailVariables.put("code", code);
-            context.setVariables(mailVariables);
-
-            try {
-                MimeMessage message = this.javaMailSender.createMimeMessage();
-                MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, this.charset);
-                messageHelper.setSubject("Password reset - InvenTrack");
-                messageHelper.setFrom(this.mailFrom);
-                messageHelper.setTo(email);
-
-                final String htmlContent = this.templateEngine.process("mail/password-reset-code.html", context);
-                messageHelper.setText(htmlContent, true);
-                this.javaMailSender.send(message);
-            } catch (MessagingException e) {
-                e.printStackTrace();
-                log.error("Failed to send email", e);
-            }
-        });
+    private void sendPasswordResetOtp(String username, String email, String code) {
+        Map<String, Object> mailVariables = new HashMap<>();
+        mailVariables.put("datetime", LocalDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a")));
+        mailVariables.put("username", username);
+        mailVariables.put("code", code);
+
+        this.outboxService.sendMail(new MailMessage(email, "Password reset - InvenTrack", "mail/password-reset-code.html", mailVariables));
     }
 
     @Override
+    @Transactional
     public Boolean checkOtp(PasswordResetRequest resetRequest) {
         boolean isUsername = resetRequest.getId().matches("^[a-zA-Z_]{4,75}$");
         boolean isEmail = resetRequest.getId().matches("^\\w+([.-]?\\w+)*@\\w+([.-]?\\w+)*(\\.\\w{2,3})+$");
 
         if (isUsername) {
-            if (userRepository.findById(resetRequest.getId()).isPresent()) {
+            if (userRepository.existsById(resetRequest.getId())) {
                 List<PersistedOtp> otps = otpRepository.findAll().stream().filter(otp -> otp.getCode().equals(resetRequest.getOtp())
                                 && otp.getForUser().getUsername().equals(resetRequest.getId())
                                 && otp.getExpiresOn().isAfter(LocalDateTime.now(ZoneId.systemDefault())))
@@ -248,7 +199,7 @@ public class OpenServiceImpl implements OpenService {
 
             throw new ResourceException("User not found: " + resetRequest.getId(), HttpStatus.BAD_REQUEST, httpServletRequest);
         } else if (isEmail) {
-            if (userRepository.findAll().stream().anyMatch(user -> user.getProfile().getEmail().equals(resetRequest.getId()))) {
+            if (profileRepository.existsByEmail(resetRequest.getId())) {
                 List<PersistedOtp> otps = otpRepository.findAll().stream().filter(otp -> otp.getCode().equals(resetRequest.getOtp())
                         && otp.getForUser().getProfile().getEmail().equals(resetRequest.getId())
                         && otp.getExpiresOn().isAfter(LocalDateTime.now(ZoneId.systemDefault()))).toList();
@@ -268,23 +219,18 @@ public class OpenServiceImpl implements OpenService {
     }
 
     @Override
+    @Transactional
     public void resetPassword(PasswordResetBody passwordResetBody) {
         boolean isUsername = passwordResetBody.getId().matches("^[a-zA-Z_]{4,75}$");
         boolean isEmail = passwordResetBody.getId().matches("^\\w+([.-]?\\w+)*@\\w+([.-]?\\w+)*(\\.\\w{2,3})+$");
 
         User user;
         if (isUsername) {
-            if (userRepository.findById(passwordResetBody.getId()).isPresent()) {
-                user = userRepository.findById(passwordResetBody.getId()).get();
-            } else {
-                throw new ResourceException("User not found: " + passwordResetBody.getId(), HttpStatus.BAD_REQUEST, httpServletRequest);
-            }
+            user = userRepository.findById(passwordResetBody.getId()).orElseThrow(() -> new ResourceException("User not found: " + passwordResetBody.getId(),
+                    HttpStatus.BAD_REQUEST, httpServletRequest));
         } else if (isEmail) {
-            if (userRepository.findAll().stream().anyMatch(usr -> usr.getProfile().getEmail().equals(passwordResetBody.getId()))) {
-                user = userRepository.findAll().stream().filter(usr -> usr.getProfile().getEmail().equals(passwordResetBody.getId())).toList().get(0);
-            } else {
-                throw new ResourceException("User not found: " + passwordResetBody.getId(), HttpStatus.BAD_REQUEST, httpServletRequest);
-            }
+            user = userRepository.findByEmail(passwordResetBody.getId()).orElseThrow(() -> new ResourceException("User not found: " + passwordResetBody.getId(),
+                    HttpStatus.BAD_REQUEST, httpServletRequest));
         } else {
             throw new ResourceException("Invalid ID: " + passwordResetBody.getId(), HttpStatus.BAD_REQUEST, httpServletRequest);
         }
@@ -308,30 +254,11 @@ public class OpenServiceImpl implements OpenService {
         }
     }
 
-    @Async
-    protected void sendPasswordResetNotification(String username, String email) {
-        this.executorService.submit(() -> {
-            Context context = new Context(Locale.ENGLISH);
-
-            Map<String, Object> mailVariables = new HashMap<>();
-            mailVariables.put("datetime", LocalDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a")));
-            mailVariables.put("username", username);
-            context.setVariables(mailVariables);
-
-            try {
-                MimeMessage message = this.javaMailSender.createMimeMessage();
-                MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, this.charset);
-                messageHelper.setSubject("Password reset successful - InvenTrack");
-                messageHelper.setFrom(this.mailFrom);
-                messageHelper.setTo(email);
-
-                final String htmlContent = this.templateEngine.process("mail/password-reset.html", context);
-                messageHelper.setText(htmlContent, true);
-                this.javaMailSender.send(message);
-            } catch (MessagingException e) {
-                e.printStackTrace();
-                log.error("Failed to send email", e);
-            }
-        });
+    private void sendPasswordResetNotification(String username, String email) {
+        Map<String, Object> mailVariables = new HashMap<>();
+        mailVariables.put("datetime", LocalDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a")));
+        mailVariables.put("username", username);
+
+        this.outboxService.sendMail(new MailMessage(email, "Password reset successful - InvenTrack", "mail/password-reset.html", mailVariables));
     }
 }
@@ -0,0 +1,145 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.FinanceRecord;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.OutboxMessage;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.FinanceRecordType;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageType;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.FinanceRecordChange;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.FinanceRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.PurchaseOrderRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.dashboard.DashboardService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class FinanceRecordOutboxHandler implements OutboxHandler {
+    private final FinanceRepository financeRepository;
+    private final SaleRepository saleRepository;
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final DashboardService dashboardService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public FinanceRecordOutboxHandler(FinanceRepository financeRepository, SaleRepository saleRepository,
+                                      PurchaseOrderRepository purchaseOrderRepository, DashboardService dashboardService,
+                                      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.financeRepository = financeRepository;
+        this.saleRepository = saleRepository;
+        this.purchaseOrderRepository = purchaseOrderRepository;
+        this.dashboardService = dashboardService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public OutboxMessageType getType() {
+        return OutboxMessageType.FINANCE_RECORD;
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    @Override
+    public Map<Long, Exception> handle(List<OutboxMessage> messages) {
+        Map<Long, Exception> failures = new HashMap<>();
+        List<FinanceRecordChange> changes = new ArrayList<>(messages.size());
+
+        for (OutboxMessage message : messages) {
+            try {
+                changes.add(this.objectMapper.readValue(message.getPayload(), FinanceRecordChange.class));
+            } catch (JsonProcessingException e) {
+                failures.put(message.getId(), e);
+            }
+        }
+
+        Map<String, FinanceRecord> saleRecords = new HashMap<>();
+        Map<String, FinanceRecord> expenseRecords = new HashMap<>();
+        this.loadRecords(changes, saleRecords, expenseRecords);
+
+        Set<FinanceRecord> written = new LinkedHashSet<>();
+        List<FinanceRecord> removed = new ArrayList<>();
+
+        // changes are applied in outbox order, so a later change to the same sale or purchase order wins
+        for (FinanceRecordChange change : changes) {
+            Map<String, FinanceRecord> records = change.getType() == FinanceRecordType.SALE ? saleRecords : expenseRecords;
+            FinanceRecord record = records.get(change.getReference());
+
+            if (change.isRemoval()) {
+                if (record != null) {
+                    records.remove(change.getReference());
+                    written.remove(record);
+
+                    if (record.getId() != null) {
+                        removed.add(record);
+                    }
+                }
+
+                continue;
+            }
+
+            if (record == null) {
+                record = new FinanceRecord();
+                record.setYear(change.getYear());
+                record.setMonth(change.getMonth());
+                record.setType(change.getType());
+
+                if (change.getType() == FinanceRecordType.SALE) {
+                    record.setSale(saleRepository.getReferenceById(change.getReference()));
+                } else {
+                    record.setPurchaseOrder(purchaseOrderRepository.getReferenceById(change.getReference()));
+                }
+
+                records.put(change.getReference(), record);
+            }
+
+            record.setValue(change.getValue());
+            written.add(record);
+        }
+
+        financeRepository.deleteAll(removed);
+        financeRepository.flush();
+        financeRepository.saveAllAndFlush(written);
+
+        written.forEach(record -> this.meterRegistry.counter("inventrack.finance.record.writes", "type",
+                record.getType().name().toLowerCase()).increment());
+
+        if (!changes.isEmpty()) {
+            this.dashboardService.requestRefresh();
+        }
+
+        return failures;
+    }
+
+    private void loadRecords(List<FinanceRecordChange> changes, Map<String, FinanceRecord> saleRecords,
+                             Map<String, FinanceRecord> expenseRecords) {
+        Set<String> saleIds = new LinkedHashSet<>();
+        Set<String> purchaseOrderIds = new LinkedHashSet<>();
+
+        for (FinanceRecordChange change : changes) {
+            (change.getType() == FinanceRecordType.SALE ? saleIds : purchaseOrderIds).add(change.getReference());
+        }
+
+        if (!saleIds.isEmpty()) {
+            financeRepository.findBySaleIds(saleIds).forEach(record -> saleRecords.put(record.getSale().getId(), record));
+        }
+
+        if (!purchaseOrderIds.isEmpty()) {
+            financeRepository.findByPurchaseOrderIds(purchaseOrderIds)
+                    .forEach(record -> expenseRecords.put(record.getPurchaseOrder().getId(), record));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.OutboxMessage;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageType;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.MailMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class MailOutboxHandler implements OutboxHandler {
+    private final JavaMailSender javaMailSender;
+    private final TemplateEngine templateEngine;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public MailOutboxHandler(JavaMailSender javaMailSender, @Qualifier("emailTemplateEngine") TemplateEngine templateEngine,
+                             ObjectMapper objectMapper) {
+        this.javaMailSender = javaMailSender;
+        this.templateEngine = templateEngine;
+        this.objectMapper = objectMapper;
+    }
+
+    @Value("${spring.mail.default-encoding}")
+    private String charset;
+
+    @Value("${accounts.mail.from}")
+    private String mailFrom;
+
+    @Override
+    public OutboxMessageType getType() {
+        return OutboxMessageType.MAIL;
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return false;
+    }
+
+    @Override
+    public Map<Long, Exception> handle(List<OutboxMessage> messages) {
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Long> mimeMessages = new IdentityHashMap<>();
+
+        for (OutboxMessage message : messages) {
+            try {
+                mimeMessages.put(this.render(this.objectMapper.readValue(message.getPayload(), MailMessage.class)), message.getId());
+            } catch (JsonProcessingException | MessagingException e) {
+                failures.put(message.getId(), e);
+            }
+        }
+
+        if (mimeMessages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            // one call sends the whole batch over a single SMTP connection
+            this.javaMailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                mimeMessages.values().forEach(id -> failures.put(id, e));
+            } else {
+                e.getFailedMessages().forEach((message, exception) -> failures.put(mimeMessages.get(message), exception));
+            }
+        } catch (MailException e) {
+            mimeMessages.values().forEach(id -> failures.put(id, e));
+        }
+
+        return failures;
+    }
+
+    private MimeMessage render(MailMessage mailMessage) throws MessagingException {
+        Context context = new Context(Locale.ENGLISH);
+        context.setVariables(mailMessage.getVariables());
+
+        MimeMessage message = this.javaMailSender.createMimeMessage();
+        MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, this.charset);
+        messageHelper.setSubject(mailMessage.getSubject());
+        messageHelper.setFrom(this.mailFrom);
+        messageHelper.setTo(mailMessage.getRecipient());
+        messageHelper.setText(this.templateEngine.process(mailMessage.getTemplate(), context), true);
+
+        return message;
+    }
+}
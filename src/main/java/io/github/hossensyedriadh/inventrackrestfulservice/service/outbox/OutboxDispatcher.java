@@ -0,0 +1,120 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.outbox;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageStatus;
+import io.github.hossensyedriadh.inventrackrestfulservice.exception.OutboxDispatchException;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.OutboxMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class OutboxDispatcher {
+    private final OutboxService outboxService;
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final MeterRegistry meterRegistry;
+    private final Counter dispatchFailures;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong pendingMessages = new AtomicLong();
+    private final AtomicLong failedMessages = new AtomicLong();
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Autowired
+    public OutboxDispatcher(OutboxService outboxService, OutboxMessageRepository outboxMessageRepository,
+                            MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.meterRegistry = meterRegistry;
+
+        this.dispatchFailures = Counter.builder("inventrack.outbox.dispatch.failures")
+                .description("Dispatch runs aborted by an error no single outbox message could be blamed for")
+                .register(meterRegistry);
+        Gauge.builder("inventrack.outbox.lag", this.lagSeconds, AtomicLong::get)
+                .description("Age of the oldest pending outbox message in seconds").baseUnit("seconds").register(meterRegistry);
+        Gauge.builder("inventrack.outbox.pending", this.pendingMessages, AtomicLong::get)
+                .description("Outbox messages waiting to be dispatched").register(meterRegistry);
+        Gauge.builder("inventrack.outbox.failed", this.failedMessages, AtomicLong::get)
+                .description("Outbox messages that exhausted their attempts").register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${outbox.poll-interval-millis:1000}", fixedDelayString = "${outbox.poll-interval-millis:1000}")
+    public void dispatch() {
+        int size = this.batchSize;
+
+        while (true) {
+            Timer.Sample sample = Timer.start(this.meterRegistry);
+            int dispatched;
+
+            try {
+                dispatched = this.outboxService.dispatch(size);
+            } catch (OutboxDispatchException e) {
+                if (e.getMessageIds().size() > 1) {
+                    // a failure that rolled back the whole batch, retry one message at a time to isolate it
+                    log.warn("Outbox batch failed, dispatching messages one at a time: {}", e.getMessage());
+                    size = 1;
+                    continue;
+                }
+
+                if (!this.defer(e.getMessageIds().get(0), e)) {
+                    break;
+                }
+
+                size = this.batchSize;
+                continue;
+            } catch (RuntimeException e) {
+                this.dispatchFailures.increment();
+                log.error("Failed to dispatch outbox messages", e);
+                break;
+            } finally {
+                sample.stop(Timer.builder("inventrack.outbox.batch").description("Time taken to dispatch a batch of outbox messages")
+                        .publishPercentileHistogram().register(this.meterRegistry));
+            }
+
+            if (dispatched < size) {
+                break;
+            }
+
+            // back to full batches once an isolated message went through on its own
+            size = this.batchSize;
+        }
+
+        this.updateStatistics();
+    }
+
+    private boolean defer(long messageId, RuntimeException failure) {
+        try {
+            this.outboxService.defer(messageId, String.valueOf(failure.getMessage()));
+            return true;
+        } catch (RuntimeException e) {
+            this.dispatchFailures.increment();
+            log.error("Failed to defer outbox message {}", messageId, failure);
+            return false;
+        }
+    }
+
+    private void updateStatistics() {
+        try {
+            LocalDateTime oldest = outboxMessageRepository.findOldestPendingCreatedOn();
+            this.lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now(ZoneId.systemDefault())).toSeconds());
+            this.pendingMessages.set(outboxMessageRepository.countByStatus(OutboxMessageStatus.PENDING));
+            this.failedMessages.set(outboxMessageRepository.countByStatus(OutboxMessageStatus.FAILED));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read outbox statistics: {}", e.getMessage());
+        }
+    }
+}
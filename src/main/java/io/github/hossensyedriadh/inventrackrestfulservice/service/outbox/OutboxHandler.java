@@ -0,0 +1,20 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.outbox;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.OutboxMessage;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageType;
+
+import java.util.List;
+import java.util.Map;
+
+public interface OutboxHandler {
+    OutboxMessageType getType();
+
+    /**
+     * Whether {@link #handle(List)} writes to the database and has to commit together with the removal of the
+     * delivered messages. Handlers talking to external systems run outside any transaction instead, so a slow
+     * remote call holds neither row locks nor a pooled connection.
+     */
+    boolean isTransactional();
+
+    Map<Long, Exception> handle(List<OutboxMessage> messages);
+}
@@ -0,0 +1,14 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.outbox;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.model.FinanceRecordChange;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.MailMessage;
+
+public interface OutboxService {
+    void recordFinanceChange(FinanceRecordChange change);
+
+    void sendMail(MailMessage message);
+
+    int dispatch(int batchSize);
+
+    void defer(long messageId, String error);
+}
@@ -0,0 +1,200 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.OutboxMessage;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageStatus;
+import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OutboxMessageType;
+import io.github.hossensyedriadh.inventrackrestfulservice.exception.OutboxDispatchException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.FinanceRecordChange;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.MailMessage;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.OutboxMessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Transactional
+public class OutboxServiceImpl implements OutboxService {
+    private static final int maxErrorLength = 1000;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OutboxMessageType, OutboxHandler> handlers = new EnumMap<>(OutboxMessageType.class);
+
+    @Value("${outbox.retry.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retry.initial-backoff-millis:1000}")
+    private long initialBackoffMillis;
+
+    @Value("${outbox.retry.max-backoff-millis:300000}")
+    private long maxBackoffMillis;
+
+    @Value("${outbox.claim-timeout-millis:300000}")
+    private long claimTimeoutMillis;
+
+    @Autowired
+    public OutboxServiceImpl(OutboxMessageRepository outboxMessageRepository, ObjectMapper objectMapper,
+                             List<OutboxHandler> handlers, MeterRegistry meterRegistry,
+                             PlatformTransactionManager transactionManager) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        handlers.forEach(handler -> this.handlers.put(handler.getType(), handler));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordFinanceChange(FinanceRecordChange change) {
+        this.enqueue(OutboxMessageType.FINANCE_RECORD, change);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendMail(MailMessage message) {
+        this.enqueue(OutboxMessageType.MAIL, message);
+    }
+
+    /**
+     * Claims due messages in one short transaction, delivers them and then deletes or defers them in a second one.
+     * Handlers that are not {@link OutboxHandler#isTransactional() transactional}, such as mail, run in between,
+     * so no row lock or connection is held while a remote server is talked to.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int dispatch(int batchSize) {
+        List<OutboxMessage> messages = this.transactionTemplate.execute(status -> this.claim(batchSize));
+
+        Map<OutboxMessageType, List<OutboxMessage>> messagesByType = messages.stream().collect(Collectors.groupingBy(
+                OutboxMessage::getType, () -> new EnumMap<>(OutboxMessageType.class), Collectors.toList()));
+        List<Long> unfinished = messages.stream().map(OutboxMessage::getId).collect(Collectors.toList());
+
+        for (Map.Entry<OutboxMessageType, List<OutboxMessage>> entry : messagesByType.entrySet()) {
+            OutboxHandler handler = this.handlers.get(entry.getKey());
+            List<Long> ids = entry.getValue().stream().map(OutboxMessage::getId).toList();
+
+            try {
+                if (handler.isTransactional()) {
+                    this.transactionTemplate.executeWithoutResult(status -> this.complete(entry.getKey(), entry.getValue(),
+                            handler.handle(entry.getValue())));
+                } else {
+                    Map<Long, Exception> failures = handler.handle(entry.getValue());
+                    this.transactionTemplate.executeWithoutResult(status -> this.complete(entry.getKey(), entry.getValue(),
+                            failures));
+                }
+            } catch (RuntimeException e) {
+                this.release(unfinished);
+                throw new OutboxDispatchException(ids, e);
+            }
+
+            unfinished.removeAll(ids);
+        }
+
+        return messages.size();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void defer(long messageId, String error) {
+        outboxMessageRepository.findById(messageId).ifPresent(message -> this.defer(message, new IllegalStateException(error)));
+    }
+
+    private List<OutboxMessage> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.systemDefault());
+        List<OutboxMessage> messages = outboxMessageRepository.findDueMessages(now, PageRequest.of(0, batchSize));
+
+        // the claim hides the messages from other dispatchers, and hands them out again should this one die mid-delivery
+        messages.forEach(message -> message.setAvailableOn(now.plusNanos(this.claimTimeoutMillis * 1_000_000)));
+
+        return messages;
+    }
+
+    private void complete(OutboxMessageType type, List<OutboxMessage> messages, Map<Long, Exception> failures) {
+        List<OutboxMessage> delivered = new ArrayList<>(messages.size());
+
+        for (OutboxMessage message : messages) {
+            Exception failure = failures.get(message.getId());
+
+            if (failure == null) {
+                delivered.add(message);
+            } else {
+                this.defer(message, failure);
+            }
+        }
+
+        outboxMessageRepository.deleteAllInBatch(delivered);
+        this.meterRegistry.counter("inventrack.outbox.messages", "type", type.name().toLowerCase(),
+                "outcome", "delivered").increment(delivered.size());
+    }
+
+    private void release(List<Long> ids) {
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> outboxMessageRepository.updateAvailableOn(ids,
+                    LocalDateTime.now(ZoneId.systemDefault())));
+        } catch (RuntimeException e) {
+            log.warn("Failed to release {} claimed outbox messages, they are retried once the claim expires: {}",
+                    ids.size(), e.getMessage());
+        }
+    }
+
+    private void enqueue(OutboxMessageType type, Object payload) {
+        OutboxMessage message = new OutboxMessage();
+        message.setType(type);
+
+        try {
+            message.setPayload(this.objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize outbox payload", e);
+        }
+
+        outboxMessageRepository.save(message);
+    }
+
+    private void defer(OutboxMessage message, Exception failure) {
+        String error = String.valueOf(failure.getMessage());
+        message.setAttempts(message.getAttempts() + 1);
+        message.setLastError(error.length() > maxErrorLength ? error.substring(0, maxErrorLength) : error);
+
+        String outcome;
+
+        if (message.getAttempts() >= this.maxAttempts) {
+            message.setStatus(OutboxMessageStatus.FAILED);
+            outcome = "failed";
+            log.error("Giving up on outbox message {} of type {} after {} attempts", message.getId(), message.getType(),
+                    message.getAttempts(), failure);
+        } else {
+            long backoff = Math.min(this.maxBackoffMillis, this.initialBackoffMillis << Math.min(message.getAttempts() - 1, 20));
+            backoff += ThreadLocalRandom.current().nextLong(backoff / 5 + 1);
+            message.setAvailableOn(LocalDateTime.now(ZoneId.systemDefault()).plusNanos(backoff * 1_000_000));
+            outcome = "retried";
+            log.warn("Outbox message {} of type {} failed, attempt {}: {}", message.getId(), message.getType(),
+                    message.getAttempts(), error);
+        }
+
+        outboxMessageRepository.save(message);
+        this.meterRegistry.counter("inventrack.outbox.messages", "type", message.getType().name().toLowerCase(),
+                "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.product;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.ProductImage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ImageRenditions;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductImageRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ProductImageCache {
+    private final ProductImageRepository productImageRepository;
+    private LoadingCache<String, List<ImageRenditions>> imageCache;
+
+    @Autowired
+    public ProductImageCache(ProductImageRepository productImageRepository) {
+        this.productImageRepository = productImageRepository;
+    }
+
+    @Value("${products.images.cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${products.images.cache.expiry-mins}")
+    private long expiryMins;
+
+    @PostConstruct
+    private void initializeCache() {
+        this.imageCache = CacheBuilder.newBuilder().maximumSize(this.maximumSize)
+                .expireAfterWrite(this.expiryMins, TimeUnit.MINUTES)
+                .build(new CacheLoader<>() {
+                    @Override
+                    @NonNull
+                    public List<ImageRenditions> load(@NonNull String productId) {
+                        return productImageRepository.findByForProductId(productId).stream()
+                                .map(ProductImageCache::renditions).toList();
+                    }
+
+                    @Override
+                    @NonNull
+                    public Map<String, List<ImageRenditions>> loadAll(@NonNull Iterable<? extends String> productIds) {
+                        Map<String, List<ImageRenditions>> images = new HashMap<>();
+                        productIds.forEach(productId -> images.put(productId, new ArrayList<>()));
+
+                        for (ProductImage image : productImageRepository.findByForProductIdIn(images.keySet())) {
+                            images.get(image.getForProductId()).add(renditions(image));
+                        }
+
+                        images.replaceAll((productId, renditions) -> List.copyOf(renditions));
+                        return images;
+                    }
+                });
+    }
+
+    private static ImageRenditions renditions(ProductImage image) {
+        return new ImageRenditions(image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getUrl(),
+                image.getMediumUrl() != null ? image.getMediumUrl() : image.getUrl(), image.getUrl());
+    }
+
+    public List<ImageRenditions> get(String productId) {
+        return this.imageCache.getUnchecked(productId);
+    }
+
+    public Map<String, List<ImageRenditions>> getAll(Collection<String> productIds) {
+        try {
+            return this.imageCache.getAll(productIds);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to load product images", e.getCause());
+        }
+    }
+
+    public void invalidate(String productId) {
+        this.imageCache.invalidate(productId);
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.service.product;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Product;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ProductSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -8,9 +10,11 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
 public interface ProductService {
-    Page<Product> products(Pageable pageable);
+    Page<ProductSummary> products(Pageable pageable);
 
-    List<Product> products();
+    CursorPage<ProductSummary> products(String cursor, int size, boolean count);
+
+    List<ProductSummary> products();
 
     Product product(String id);
 
@@ -1,75 +1,167 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.service.product;
 
-import io.github.hossensyedriadh.inventrackrestfulservice.configuration.cloud.OracleCloudObjectStorage;
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage.BlobStore;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Product;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.ProductImage;
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.Authority;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.Cursor;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ImageRenditions;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ProductSummary;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductImageRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.CurrentAuthenticationContext;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.CursorPaging;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.image.ImageRenditionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
 
+@Slf4j
 @Service
+@Transactional(readOnly = true)
 public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final ProductImageRepository productImageRepository;
     private final CurrentAuthenticationContext authenticationContext;
-    private final OracleCloudObjectStorage oracleCloudObjectStorage;
+    private final BlobStore blobStore;
+    private final CursorPaging cursorPaging;
     private final HttpServletRequest httpServletRequest;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ImageRenditionService imageRenditionService;
+    private final ProductImageCache productImageCache;
+    private ExecutorService uploadExecutor;
 
     @Autowired
     public ProductServiceImpl(ProductRepository productRepository, ProductImageRepository productImageRepository,
-                              CurrentAuthenticationContext authenticationContext,
-                              OracleCloudObjectStorage oracleCloudObjectStorage, HttpServletRequest httpServletRequest) {
+                              CurrentAuthenticationContext authenticationContext, CursorPaging cursorPaging,
+                              BlobStore blobStore, HttpServletRequest httpServletRequest,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                              ImageRenditionService imageRenditionService, ProductImageCache productImageCache) {
         this.productRepository = productRepository;
         this.productImageRepository = productImageRepository;
         this.authenticationContext = authenticationContext;
-        this.oracleCloudObjectStorage = oracleCloudObjectStorage;
+        this.cursorPaging = cursorPaging;
+        this.blobStore = blobStore;
         this.httpServletRequest = httpServletRequest;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.imageRenditionService = imageRenditionService;
+        this.productImageCache = productImageCache;
     }
 
+    @Value("${products.images.upload-deadline-seconds}")
+    private long uploadDeadlineSeconds;
+
+    @Value("${products.images.upload-threads:4}")
+    private int uploadThreads;
+
+    @Value("${products.images.upload-queue-capacity:32}")
+    private int uploadQueueCapacity;
+
     private static final String productsFolderName = "products";
 
-    private List<String> getProductImages(String productId) {
-        return productImageRepository.findAll().stream()
-                .filter(image -> image.getForProduct().getId().equals(productId))
-                .map(ProductImage::getUrl).toList();
+    @PostConstruct
+    protected void initialize() {
+        this.uploadExecutor = ExecutorServiceMetrics.monitor(this.meterRegistry, new ThreadPoolExecutor(this.uploadThreads,
+                this.uploadThreads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(this.uploadQueueCapacity),
+                new ThreadPoolExecutor.CallerRunsPolicy()), "product-image-upload");
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        this.uploadExecutor.shutdown();
+    }
+
+    private static List<String> imageUrls(List<ImageRenditions> renditions) {
+        return renditions.stream().map(ImageRenditions::getOriginal).toList();
+    }
+
+    private void attachImages(List<ProductSummary> products) {
+        Map<String, List<ImageRenditions>> renditions = this.productImageCache.getAll(products.stream()
+                .map(ProductSummary::getId).toList());
+
+        for (ProductSummary product : products) {
+            product.setImages(imageUrls(renditions.get(product.getId())));
+            product.setRenditions(renditions.get(product.getId()));
+        }
+    }
+
+    @Override
+    public Page<ProductSummary> products(Pageable pageable) {
+        Page<ProductSummary> productPage = productRepository.findProductSummaries(pageable);
+        this.attachImages(productPage.getContent());
+
+        return productPage;
     }
 
     @Override
-    public Page<Product> products(Pageable pageable) {
-        Page<Product> productPage = productRepository.findAll(pageable);
+    public CursorPage<ProductSummary> products(String cursor, int size, boolean count) {
+        this.cursorPaging.checkPageSize(size);
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ProductSummary> products;
 
-        return new PageImpl<>(productPage.stream()
-                .peek(product -> product.setImages(this.getProductImages(product.getId()))).toList(), pageable,
-                productPage.getTotalElements());
+        if (cursor == null) {
+            products = productRepository.findFirstProductSummaries(limit);
+        } else {
+            Cursor position = this.cursorPaging.decode(cursor, false);
+            products = productRepository.findProductSummariesAfter(position.getId(), limit);
+        }
+
+        CursorPage<ProductSummary> productPage = new CursorPage<>(products, size, product -> new Cursor(null, product.getId()),
+                count ? productRepository.count() : null);
+        this.attachImages(productPage.getContent());
+
+        return productPage;
     }
 
     @Override
-    public List<Product> products() {
-        return productRepository.findAll().stream().peek(product -> product.setImages(this.getProductImages(product.getId()))).toList();
+    public List<ProductSummary> products() {
+        List<ProductSummary> products = productRepository.findProductSummaries(Pageable.unpaged()).getContent();
+        this.attachImages(products);
+
+        return products;
     }
 
     @Override
     public Product product(String id) {
-        if (productRepository.findById(id).isPresent()) {
-            Product product = productRepository.findById(id).get();
+        Optional<Product> existingProduct = productRepository.findById(id);
+
+        if (existingProduct.isPresent()) {
+            Product product = existingProduct.get();
             if (this.authenticationContext.getAuthenticatedUser().getAuthority().equals(Authority.ROLE_MODERATOR)) {
                 product.setPurchaseOrder(null);
             }
-            product.setImages(this.getProductImages(id));
+            List<ImageRenditions> renditions = this.productImageCache.get(id);
+            product.setImages(imageUrls(renditions));
+            product.setRenditions(renditions);
             return product;
         }
 
@@ -77,8 +169,9 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional
     public Product update(Product product) {
-        if (productRepository.findById(product.getId()).isPresent()) {
+        if (productRepository.existsById(product.getId())) {
             product.setUpdatedBy(this.authenticationContext.getAuthenticatedUser());
             return productRepository.saveAndFlush(product);
         }
@@ -87,28 +180,50 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Product updateImages(String productId, MultipartFile[] images) {
-        if (productRepository.findById(productId).isPresent()) {
-            Product product = productRepository.findById(productId).get();
+        Optional<Product> existingProduct = productRepository.findById(productId);
 
-            List<ProductImage> currentImages = productImageRepository.findAll().stream()
-                    .filter(image -> image.getForProduct().getId().equals(productId)).toList();
+        if (existingProduct.isPresent()) {
+            Product product = existingProduct.get();
 
-            List<ProductImage> productImages = new ArrayList<>();
-            String[] links = this.storeImages(images, productId);
+            String batch = Long.toString(System.currentTimeMillis(), 36);
+            String[] objectNames = new String[images.length];
 
             for (int i = 0; i < images.length; i += 1) {
+                objectNames[i] = productId.concat("_" + batch + "_" + (i + 1));
+            }
+
+            String[] links = this.storeImages(images, objectNames, productId);
+
+            List<ProductImage> productImages = new ArrayList<>();
+
+            for (String link : links) {
                 ProductImage image = new ProductImage();
-                image.setUrl(links[i]);
+                image.setUrl(link);
                 image.setForProduct(product);
                 productImages.add(image);
             }
 
-            productImageRepository.deleteAll(currentImages);
-            productImageRepository.saveAllAndFlush(productImages);
+            List<ProductImage> savedImages = this.transactionTemplate.execute(status -> {
+                productImageRepository.deleteAll(productImageRepository.findByForProductId(productId));
+                return productImageRepository.saveAllAndFlush(productImages);
+            });
 
-            product.setImages(productImageRepository.findAll().stream().filter(image -> image.getForProduct().getId().equals(productId))
-                    .map(ProductImage::getUrl).toList());
+            this.productImageCache.invalidate(productId);
+
+            for (int i = 0; i < savedImages.size(); i += 1) {
+                try {
+                    this.imageRenditionService.createProductImageRenditions(productId, savedImages.get(i).getTag(),
+                            objectNames[i], images[i].getBytes());
+                } catch (IOException e) {
+                    log.warn("Failed to read image {} for renditions: {}", objectNames[i], e.getMessage());
+                }
+            }
+
+            List<ImageRenditions> renditions = this.productImageCache.get(productId);
+            product.setImages(imageUrls(renditions));
+            product.setRenditions(renditions);
 
             return product;
         }
@@ -116,19 +231,52 @@ public class ProductServiceImpl implements ProductService {
         throw new ResourceException("Product not found with ID: " + productId, HttpStatus.BAD_REQUEST, httpServletRequest);
     }
 
-    private String[] storeImages(MultipartFile[] images, String productId) {
-        String[] urls = new String[images.length];
-
+    private String[] storeImages(MultipartFile[] images, String[] objectNames, String productId) {
         HashMap<String, String> metadata = new HashMap<>();
         metadata.put("Product", productId);
 
+        List<Future<String>> uploads = new ArrayList<>(images.length);
+
         for (int i = 0; i < images.length; i += 1) {
-            String url = this.oracleCloudObjectStorage.uploadFile(productsFolderName,
-                    productId.concat("_" + (i + 1)), metadata, images[i]);
+            MultipartFile image = images[i];
+            String objectName = objectNames[i];
 
-            urls[i] = url;
+            uploads.add(this.uploadExecutor.submit(() -> this.storeImage(objectName, metadata, image)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.uploadDeadlineSeconds);
+        String[] urls = new String[images.length];
+
+        try {
+            for (int i = 0; i < uploads.size(); i += 1) {
+                urls[i] = uploads.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            uploads.forEach(upload -> upload.cancel(true));
+            throw new ResourceException("Image upload interrupted", HttpStatus.SERVICE_UNAVAILABLE, httpServletRequest);
+        } catch (ExecutionException | TimeoutException e) {
+            uploads.forEach(upload -> upload.cancel(true));
+            throw new ResourceException("Failed to upload product images, existing images were kept", HttpStatus.BAD_GATEWAY,
+                    httpServletRequest);
         }
 
         return urls;
     }
+
+    private String storeImage(String objectName, HashMap<String, String> metadata, MultipartFile image) {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        String url = this.blobStore.uploadFile(productsFolderName, objectName, metadata, image);
+
+        sample.stop(Timer.builder("inventrack.product.image.upload")
+                .description("Latency of a single product image upload")
+                .tag("outcome", url != null ? "success" : "failure")
+                .publishPercentileHistogram().register(this.meterRegistry));
+
+        if (url == null) {
+            throw new IllegalStateException("Failed to upload image: " + objectName);
+        }
+
+        return url;
+    }
 }
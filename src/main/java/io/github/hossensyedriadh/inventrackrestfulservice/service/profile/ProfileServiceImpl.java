@@ -1,69 +1,58 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.service.profile;
 
-import io.github.hossensyedriadh.inventrackrestfulservice.configuration.cloud.OracleCloudObjectStorage;
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage.BlobStore;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Profile;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.User;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.MailMessage;
 import io.github.hossensyedriadh.inventrackrestfulservice.model.PasswordChangeRequest;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProfileRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.UserRepository;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.CurrentAuthenticationContext;
-import lombok.extern.log4j.Log4j;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.image.ImageRenditionService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.outbox.OutboxService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring5.SpringTemplateEngine;
 
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Objects;
 
-@Log4j
+@Slf4j
 @Service
+@Transactional(readOnly = true)
 public class ProfileServiceImpl implements ProfileService {
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JavaMailSender javaMailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final OutboxService outboxService;
     private final CurrentAuthenticationContext currentAuthenticationContext;
-    private final OracleCloudObjectStorage oracleCloudObjectStorage;
-    private final ExecutorService executorService;
+    private final BlobStore blobStore;
+    private final ImageRenditionService imageRenditionService;
 
     @Autowired
     public ProfileServiceImpl(UserRepository userRepository, ProfileRepository profileRepository,
-                              PasswordEncoder passwordEncoder, JavaMailSender javaMailSender,
-                              SpringTemplateEngine templateEngine, CurrentAuthenticationContext currentAuthenticationContext,
-                              OracleCloudObjectStorage oracleCloudObjectStorage) {
+                              PasswordEncoder passwordEncoder, OutboxService outboxService,
+                              CurrentAuthenticationContext currentAuthenticationContext,
+                              BlobStore blobStore, ImageRenditionService imageRenditionService) {
         this.userRepository = userRepository;
         this.profileRepository = profileRepository;
         this.passwordEncoder = passwordEncoder;
-        this.javaMailSender = javaMailSender;
-        this.templateEngine = templateEngine;
+        this.outboxService = outboxService;
         this.currentAuthenticationContext = currentAuthenticationContext;
-        this.oracleCloudObjectStorage = oracleCloudObjectStorage;
-
-        this.executorService = Executors.newFixedThreadPool(3);
+        this.blobStore = blobStore;
+        this.imageRenditionService = imageRenditionService;
     }
 
-    @Value("${spring.mail.default-encoding}")
-    private String charset;
-
-    @Value("${accounts.mail.from}")
-    private String mailFrom;
-
     private static final String avatarsFolderName = "avatars";
 
     private Boolean doPasswordsMatch(String password) {
@@ -82,12 +71,21 @@ public class ProfileServiceImpl implements ProfileService {
     }
 
     @Override
+    @Transactional
     public User updateProfile(User user) {
-        String previousEmail = user.getProfile().getEmail();
+        // the principal still holds the user as loaded for authentication, so it carries the previous email
+        User currentUser = this.currentAuthenticationContext.getAuthenticatedUser();
+        String previousEmail = currentUser.getProfile().getEmail();
+
+        // renditions of the previous avatar must not outlive it, clients fall back to the original until new ones exist
+        if (!Objects.equals(currentUser.getProfile().getAvatar(), user.getProfile().getAvatar())) {
+            this.profileRepository.updateAvatar(currentUser.getProfile().getId(), user.getProfile().getAvatar());
+        }
 
         profileRepository.saveAndFlush(user.getProfile());
 
-        User updatedUser = this.currentAuthenticationContext.getAuthenticatedUser();
+        User updatedUser = this.userRepository.findById(currentUser.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
         if (!previousEmail.equals(updatedUser.getProfile().getEmail())) {
             this.sendEmailUpdateNotification(updatedUser.getUsername(), previousEmail, updatedUser.getProfile().getEmail());
@@ -96,50 +94,20 @@ public class ProfileServiceImpl implements ProfileService {
         return updatedUser;
     }
 
-    @Async
-    protected void sendEmailUpdateNotification(String username, String previousEmail, String updatedEmail) {
-        this.executorService.submit(() -> {
-            Context context = new Context(Locale.ENGLISH);
-
-            Map<String, Object> mailVariables = new HashMap<>();
-            mailVariables.put("datetime", LocalDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a")));
-            mailVariables.put("username", username);
-            mailVariables.put("updatedEmail", updatedEmail);
-            context.setVariables(mailVariables);
-
-            try {
-                MimeMessage message = this.javaMailSender.createMimeMessage();
-                MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, this.charset);
-                messageHelper.setSubject("Email updated - InvenTrack");
-                messageHelper.setFrom(this.mailFrom);
-                messageHelper.setTo(previousEmail);
-
-                final String htmlContent = this.templateEngine.process("mail/email-update-old-address.html", context);
-                messageHelper.setText(htmlContent, true);
-                this.javaMailSender.send(message);
-            } catch (MessagingException e) {
-                e.printStackTrace();
-                log.error("Failed to send email", e);
-            }
+    private void sendEmailUpdateNotification(String username, String previousEmail, String updatedEmail) {
+        Map<String, Object> mailVariables = new HashMap<>();
+        mailVariables.put("datetime", LocalDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a")));
+        mailVariables.put("username", username);
+        mailVariables.put("updatedEmail", updatedEmail);
 
-            try {
-                MimeMessage message = this.javaMailSender.createMimeMessage();
-                MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, this.charset);
-                messageHelper.setSubject("Email updated - InvenTrack");
-                messageHelper.setFrom(this.mailFrom);
-                messageHelper.setTo(updatedEmail);
-
-                final String htmlContent = this.templateEngine.process("mail/email-update-new-address.html", context);
-                messageHelper.setText(htmlContent, true);
-                this.javaMailSender.send(message);
-            } catch (MessagingException e) {
-                e.printStackTrace();
-                log.error("Failed to send email", e);
-            }
-        });
+        this.outboxService.sendMail(new MailMessage(previousEmail, "Email updated - InvenTrack",
+                "mail/email-update-old-address.html", mailVariables));
+        this.outboxService.sendMail(new MailMessage(updatedEmail, "Email updated - InvenTrack",
+                "mail/email-update-new-address.html", mailVariables));
     }
 
     @Override
+    @Transactional
     public void changePassword(PasswordChangeRequest passwordChangeRequest) {
         User currentUser = this.currentAuthenticationContext.getAuthenticatedUser();
 
@@ -152,43 +120,35 @@ public class ProfileServiceImpl implements ProfileService {
         }
     }
 
-    @Async
-    protected void sendPasswordChangeNotification(String username, String email) {
-        this.executorService.submit(() -> {
-            Context context = new Context(Locale.ENGLISH);
-
-            Map<String, Object> mailVariables = new HashMap<>();
-            mailVariables.put("datetime", LocalDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a")));
-            mailVariables.put("username", username);
-            context.setVariables(mailVariables);
+    private void sendPasswordChangeNotification(String username, String email) {
+        Map<String, Object> mailVariables = new HashMap<>();
+        mailVariables.put("datetime", LocalDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm:ss a")));
+        mailVariables.put("username", username);
 
-            try {
-                MimeMessage message = this.javaMailSender.createMimeMessage();
-                MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, this.charset);
-                messageHelper.setSubject("Password changed - InvenTrack");
-                messageHelper.setFrom(this.mailFrom);
-                messageHelper.setTo(email);
-
-                final String htmlContent = this.templateEngine.process("mail/password-change.html", context);
-                messageHelper.setText(htmlContent, true);
-                this.javaMailSender.send(message);
-            } catch (MessagingException e) {
-                e.printStackTrace();
-                log.error("Failed to send email", e);
-            }
-        });
+        this.outboxService.sendMail(new MailMessage(email, "Password changed - InvenTrack", "mail/password-change.html", mailVariables));
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changeAvatar(MultipartFile file) {
         User currentUser = this.currentAuthenticationContext.getAuthenticatedUser();
         HashMap<String, String> metadata = new HashMap<>();
         metadata.put("Username", currentUser.getUsername());
 
-        String staticUrl = this.oracleCloudObjectStorage.uploadFile(avatarsFolderName, currentUser.getUsername(), metadata, file);
+        String staticUrl = this.blobStore.uploadFile(avatarsFolderName, currentUser.getUsername(), metadata, file);
 
         Profile profile = currentUser.getProfile();
         profile.setAvatar(staticUrl);
-        profileRepository.saveAndFlush(profile);
+        // the object name is the username, so the url may not change while the renditions of the old image are stale
+        profileRepository.updateAvatar(profile.getId(), staticUrl);
+
+        if (staticUrl != null) {
+            try {
+                this.imageRenditionService.createAvatarRenditions(profile.getId(), staticUrl, currentUser.getUsername(),
+                        file.getBytes());
+            } catch (IOException e) {
+                log.warn("Failed to read avatar of {} for renditions: {}", currentUser.getUsername(), e.getMessage());
+            }
+        }
     }
 }
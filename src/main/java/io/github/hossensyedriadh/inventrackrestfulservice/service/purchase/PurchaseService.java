@@ -1,14 +1,18 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.service.purchase;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.PurchaseOrder;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.PurchaseOrderSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
 
 public interface PurchaseService {
-    Page<PurchaseOrder> purchaseOrders(Pageable pageable);
+    Page<PurchaseOrderSummary> purchaseOrders(Pageable pageable);
 
-    Page<PurchaseOrder> purchaseOrders(Pageable pageable, String supplierPhone);
+    Page<PurchaseOrderSummary> purchaseOrders(Pageable pageable, String supplierPhone);
+
+    CursorPage<PurchaseOrderSummary> purchaseOrders(String cursor, int size, boolean count);
 
     PurchaseOrder purchaseOrder(String id);
 
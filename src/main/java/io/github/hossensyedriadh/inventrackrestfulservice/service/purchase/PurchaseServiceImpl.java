@@ -1,6 +1,5 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.service.purchase;
 
-import io.github.hossensyedriadh.inventrackrestfulservice.entity.FinanceRecord;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Product;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.ProductCategory;
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.PurchaseOrder;
@@ -8,79 +7,125 @@ import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.FinanceReco
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PurchaseOrderStatus;
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PurchaseOrderType;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.Cursor;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.FinanceRecordChange;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.LiveUpdate;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.PurchaseOrderSummary;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.*;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.CurrentAuthenticationContext;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.CursorPaging;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.dashboard.DashboardService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.live.LiveUpdateService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.misc.ReferenceDataCache;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.outbox.OutboxService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class PurchaseServiceImpl implements PurchaseService {
     private final PurchaseOrderRepository purchaseOrderRepository;
     private final SupplierRepository supplierRepository;
     private final ProductRepository productRepository;
-    private final FinanceRepository financeRepository;
     private final ProductCategoryRepository productCategoryRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final DashboardService dashboardService;
+    private final LiveUpdateService liveUpdateService;
+    private final OutboxService outboxService;
     private final CurrentAuthenticationContext authenticationContext;
+    private final CursorPaging cursorPaging;
     private final HttpServletRequest httpServletRequest;
-    private final ExecutorService executorService;
 
     @Autowired
     public PurchaseServiceImpl(PurchaseOrderRepository purchaseOrderRepository,
                                SupplierRepository supplierRepository, ProductRepository productRepository,
-                               FinanceRepository financeRepository, ProductCategoryRepository productCategoryRepository,
-                               CurrentAuthenticationContext authenticationContext, HttpServletRequest httpServletRequest) {
+                               ProductCategoryRepository productCategoryRepository,
+                               ReferenceDataCache referenceDataCache, DashboardService dashboardService,
+                               LiveUpdateService liveUpdateService, OutboxService outboxService,
+                               CurrentAuthenticationContext authenticationContext, CursorPaging cursorPaging,
+                               HttpServletRequest httpServletRequest) {
         this.purchaseOrderRepository = purchaseOrderRepository;
         this.supplierRepository = supplierRepository;
         this.productRepository = productRepository;
-        this.financeRepository = financeRepository;
         this.productCategoryRepository = productCategoryRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.dashboardService = dashboardService;
+        this.liveUpdateService = liveUpdateService;
+        this.outboxService = outboxService;
         this.authenticationContext = authenticationContext;
+        this.cursorPaging = cursorPaging;
         this.httpServletRequest = httpServletRequest;
+    }
+
+    private static double expenses(PurchaseOrder purchaseOrder) {
+        return purchaseOrder.getTotalPurchasePrice() + purchaseOrder.getShippingCosts() + purchaseOrder.getOtherCosts();
+    }
 
-        this.executorService = Executors.newFixedThreadPool(3);
+    private void publishReceived(PurchaseOrder purchaseOrder, Product product) {
+        this.liveUpdateService.publish(LiveUpdate.purchaseReceived(purchaseOrder.getId(), product.getId(), purchaseOrder.getQuantity()));
+        this.liveUpdateService.publish(LiveUpdate.stockChanged(product.getId(), product.getStock()));
     }
 
     @Override
-    public Page<PurchaseOrder> purchaseOrders(Pageable pageable) {
-        return purchaseOrderRepository.findAll(pageable);
+    public Page<PurchaseOrderSummary> purchaseOrders(Pageable pageable) {
+        return purchaseOrderRepository.findPurchaseOrderSummaries(pageable);
     }
 
     @Override
-    public Page<PurchaseOrder> purchaseOrders(Pageable pageable, String supplierPhone) {
-        return purchaseOrderRepository.findPurchaseOrdersBySupplierPhoneNo(pageable, supplierPhone);
+    public Page<PurchaseOrderSummary> purchaseOrders(Pageable pageable, String supplierPhone) {
+        return purchaseOrderRepository.findPurchaseOrderSummariesBySupplier(supplierPhone, pageable);
     }
 
     @Override
-    public PurchaseOrder purchaseOrder(String id) {
-        if (purchaseOrderRepository.findById(id).isPresent()) {
-            return purchaseOrderRepository.findById(id).get();
+    public CursorPage<PurchaseOrderSummary> purchaseOrders(String cursor, int size, boolean count) {
+        this.cursorPaging.checkPageSize(size);
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PurchaseOrderSummary> orders;
+
+        if (cursor == null) {
+            orders = purchaseOrderRepository.findLatestPurchaseOrderSummaries(limit);
+        } else {
+            Cursor position = this.cursorPaging.decode(cursor, true);
+            orders = purchaseOrderRepository.findPurchaseOrderSummariesBefore(position.getAddedOn(), position.getId(), limit);
         }
 
-        throw new ResourceException("Purchase order not found with ID: " + id, HttpStatus.BAD_REQUEST, httpServletRequest);
+        return new CursorPage<>(orders, size, order -> new Cursor(order.getAddedOn(), order.getId()),
+                count ? purchaseOrderRepository.count() : null);
+    }
+
+    @Override
+    public PurchaseOrder purchaseOrder(String id) {
+        return purchaseOrderRepository.findById(id).orElseThrow(() -> new ResourceException(
+                "Purchase order not found with ID: " + id, HttpStatus.BAD_REQUEST, httpServletRequest));
     }
 
     @Override
+    @Transactional
     public PurchaseOrder addPurchaseOrder(PurchaseOrder purchaseOrder) {
         if (purchaseOrder.getStatus().equals(PurchaseOrderStatus.PENDING)
                 || purchaseOrder.getStatus().equals(PurchaseOrderStatus.IN_STOCK)) {
-            if (productCategoryRepository.findById(purchaseOrder.getCategory().getName()).isEmpty()) {
+            if (!referenceDataCache.containsProductCategory(purchaseOrder.getCategory().getName())) {
                 ProductCategory category = new ProductCategory();
                 category.setName(purchaseOrder.getCategory().getName());
                 productCategoryRepository.saveAndFlush(category);
+                referenceDataCache.invalidate();
             }
 
-            if (supplierRepository.findById(purchaseOrder.getSupplier().getPhoneNo()).isEmpty()) {
+            if (!supplierRepository.existsById(purchaseOrder.getSupplier().getPhoneNo())) {
                 supplierRepository.saveAndFlush(purchaseOrder.getSupplier());
             }
 
@@ -90,29 +135,21 @@ public class PurchaseServiceImpl implements PurchaseService {
             PurchaseOrder addedOrder = purchaseOrderRepository.saveAndFlush(purchaseOrder);
 
             if (addedOrder.getStatus().equals(PurchaseOrderStatus.IN_STOCK)) {
-                this.executorService.submit(() -> {
-                    Product product = new Product();
-                    product.setProductName(addedOrder.getProductName());
-                    product.setCategory(addedOrder.getCategory());
-                    product.setSpecifications(addedOrder.getSpecifications());
-                    product.setStock(addedOrder.getQuantity());
-                    product.setPrice(addedOrder.getSellingPricePerUnit());
-                    product.setPurchaseOrder(addedOrder);
+                Product product = new Product();
+                product.setProductName(addedOrder.getProductName());
+                product.setCategory(addedOrder.getCategory());
+                product.setSpecifications(addedOrder.getSpecifications());
+                product.setStock(addedOrder.getQuantity());
+                product.setPrice(addedOrder.getSellingPricePerUnit());
+                product.setPurchaseOrder(addedOrder);
 
-                    productRepository.saveAndFlush(product);
-                });
+                productRepository.saveAndFlush(product);
+                this.publishReceived(addedOrder, product);
             }
 
-            this.executorService.submit(() -> {
-                var today = LocalDateTime.now(ZoneId.systemDefault());
-                FinanceRecord purchaseRecord = new FinanceRecord();
-                purchaseRecord.setYear(today.getYear());
-                purchaseRecord.setMonth(today.getMonthValue());
-                purchaseRecord.setType(FinanceRecordType.EXPENSE);
-                purchaseRecord.setValue(addedOrder.getTotalPurchasePrice() + addedOrder.getShippingCosts() + addedOrder.getOtherCosts());
-                purchaseRecord.setPurchaseOrder(addedOrder);
-                financeRepository.saveAndFlush(purchaseRecord);
-            });
+            this.outboxService.recordFinanceChange(FinanceRecordChange.expense(addedOrder.getId(), expenses(addedOrder),
+                    LocalDateTime.now(ZoneId.systemDefault())));
+            this.dashboardService.requestRefresh();
 
             return addedOrder;
         } else {
@@ -121,40 +158,25 @@ public class PurchaseServiceImpl implements PurchaseService {
     }
 
     @Override
+    @Transactional
     public PurchaseOrder updatePurchaseOrder(PurchaseOrder purchaseOrder, @Nullable String productId) {
-        if (purchaseOrderRepository.findById(purchaseOrder.getId()).isPresent()) {
-            PurchaseOrder currentOrder = purchaseOrderRepository.findById(purchaseOrder.getId()).get();
+        Optional<PurchaseOrder> existingOrder = purchaseOrderRepository.findById(purchaseOrder.getId());
+
+        if (existingOrder.isPresent()) {
+            PurchaseOrder currentOrder = existingOrder.get();
 
             if (currentOrder.getStatus().equals(PurchaseOrderStatus.PENDING)) {
                 PurchaseOrder addedOrder = purchaseOrderRepository.saveAndFlush(purchaseOrder);
 
-                List<FinanceRecord> financeRecords = financeRepository.findAll().stream()
-                        .filter(record -> record.getPurchaseOrder() != null
-                                && record.getPurchaseOrder().getId().equals(purchaseOrder.getId())
-                                && record.getMonth() == purchaseOrder.getAddedOn().getMonthValue()
-                                && record.getYear() == purchaseOrder.getAddedOn().getYear()
-                                && record.getType().equals(FinanceRecordType.EXPENSE)).toList();
-
-                if (!financeRecords.isEmpty()) {
-                    this.executorService.submit(() -> {
-                        FinanceRecord record = financeRecords.get(0);
-                        record.setValue(purchaseOrder.getTotalPurchasePrice() + purchaseOrder.getShippingCosts() + purchaseOrder.getOtherCosts());
-                        financeRepository.saveAndFlush(record);
-                    });
-                }
-
                 if (purchaseOrder.getStatus().equals(PurchaseOrderStatus.IN_STOCK)) {
                     Product product;
 
                     if (productId != null && purchaseOrder.getOrderType().equals(PurchaseOrderType.RESTOCK)) {
-                        if (productRepository.findById(productId).isPresent()) {
-                            product = productRepository.findById(productId).get();
-                            product.setStock(product.getStock() + purchaseOrder.getQuantity());
-                            product.setSpecifications(purchaseOrder.getSpecifications());
-                            product.setPurchaseOrder(addedOrder);
-                        } else {
-                            throw new ResourceException("Product not found with ID: " + productId, HttpStatus.BAD_REQUEST, httpServletRequest);
-                        }
+                        product = productRepository.findById(productId).orElseThrow(() -> new ResourceException(
+                                "Product not found with ID: " + productId, HttpStatus.BAD_REQUEST, httpServletRequest));
+                        product.setStock(product.getStock() + purchaseOrder.getQuantity());
+                        product.setSpecifications(purchaseOrder.getSpecifications());
+                        product.setPurchaseOrder(addedOrder);
                     } else {
                         product = new Product();
                         product.setProductName(purchaseOrder.getProductName());
@@ -165,17 +187,19 @@ public class PurchaseServiceImpl implements PurchaseService {
                     }
                     product.setPrice(purchaseOrder.getSellingPricePerUnit());
                     productRepository.saveAndFlush(product);
-                } else if (purchaseOrder.getStatus().equals(PurchaseOrderStatus.CANCELLED)) {
-                    this.executorService.submit(() -> {
-                        List<FinanceRecord> records = financeRepository.findAll().stream()
-                                .filter(record -> record.getPurchaseOrder().getId().equals(purchaseOrder.getId())
-                                        && record.getMonth() == purchaseOrder.getAddedOn().getMonthValue()
-                                        && record.getYear() == purchaseOrder.getAddedOn().getYear()
-                                        && record.getType().equals(FinanceRecordType.EXPENSE)).toList();
-                        financeRepository.deleteAll(records);
-                    });
+                    this.publishReceived(addedOrder, product);
                 }
 
+                if (purchaseOrder.getStatus().equals(PurchaseOrderStatus.CANCELLED)) {
+                    this.outboxService.recordFinanceChange(FinanceRecordChange.removal(FinanceRecordType.EXPENSE,
+                            currentOrder.getId(), currentOrder.getAddedOn()));
+                } else {
+                    this.outboxService.recordFinanceChange(FinanceRecordChange.expense(currentOrder.getId(),
+                            expenses(purchaseOrder), currentOrder.getAddedOn()));
+                }
+
+                this.dashboardService.requestRefresh();
+
                 return purchaseOrder;
             } else {
                 throw new ResourceException("Only pending purchase orders can be updated", HttpStatus.BAD_REQUEST, httpServletRequest);
@@ -186,6 +210,7 @@ public class PurchaseServiceImpl implements PurchaseService {
     }
 
     @Override
+    @Transactional
     public PurchaseOrder createProductRestockOrder(PurchaseOrder purchaseOrder, String productId) {
         List<PurchaseOrder> purchaseOrders = purchaseOrderRepository.findAll().stream()
                 .filter(order -> {
@@ -197,13 +222,15 @@ public class PurchaseServiceImpl implements PurchaseService {
                 }).toList();
 
         if (purchaseOrders.isEmpty()) {
-            if (productRepository.findById(productId).isPresent()) {
+            Optional<Product> existingProduct = productRepository.findById(productId);
+
+            if (existingProduct.isPresent()) {
                 if (purchaseOrder.getStatus() != PurchaseOrderStatus.CANCELLED) {
-                    Product product = productRepository.findById(productId).get();
+                    Product product = existingProduct.get();
 
                     purchaseOrder.setProductName(product.getProductName());
                     purchaseOrder.setCategory(product.getCategory());
-                    if (supplierRepository.findById(purchaseOrder.getSupplier().getPhoneNo()).isEmpty()) {
+                    if (!supplierRepository.existsById(purchaseOrder.getSupplier().getPhoneNo())) {
                         supplierRepository.saveAndFlush(purchaseOrder.getSupplier());
                     }
                     purchaseOrder.setAddedBy(this.authenticationContext.getAuthenticatedUser());
@@ -216,18 +243,12 @@ public class PurchaseServiceImpl implements PurchaseService {
                         product.setPrice(purchaseOrder.getSellingPricePerUnit());
                         product.setSpecifications(purchaseOrder.getSpecifications());
                         product.setPurchaseOrder(addedOrder);
+                        this.publishReceived(addedOrder, product);
                     }
 
-                    this.executorService.submit(() -> {
-                        var today = LocalDateTime.now(ZoneId.systemDefault());
-                        FinanceRecord financeRecord = new FinanceRecord();
-                        financeRecord.setMonth(today.getMonthValue());
-                        financeRecord.setYear(today.getYear());
-                        financeRecord.setType(FinanceRecordType.EXPENSE);
-                        financeRecord.setValue(addedOrder.getTotalPurchasePrice() + addedOrder.getShippingCosts() + addedOrder.getOtherCosts());
-                        financeRecord.setPurchaseOrder(addedOrder);
-                        financeRepository.saveAndFlush(financeRecord);
-                    });
+                    this.outboxService.recordFinanceChange(FinanceRecordChange.expense(addedOrder.getId(), expenses(addedOrder),
+                            LocalDateTime.now(ZoneId.systemDefault())));
+                    this.dashboardService.requestRefresh();
 
                     return addedOrder;
                 } else {
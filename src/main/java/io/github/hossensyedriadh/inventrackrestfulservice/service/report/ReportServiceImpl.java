@@ -6,12 +6,14 @@ import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleIte
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.SaleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @Service
+@Transactional(readOnly = true)
 public class ReportServiceImpl implements ReportService {
     private final PurchaseOrderRepository purchaseOrderRepository;
     private final SaleRepository saleRepository;
@@ -1,13 +1,17 @@
 package io.github.hossensyedriadh.inventrackrestfulservice.service.sale;
 
 import io.github.hossensyedriadh.inventrackrestfulservice.entity.Sale;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.SaleSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface SaleService {
-    Page<Sale> saleOrders(Pageable pageable);
+    Page<SaleSummary> saleOrders(Pageable pageable);
 
-    Page<Sale> saleOrders(Pageable pageable, String customerPhone);
+    Page<SaleSummary> saleOrders(Pageable pageable, String customerPhone);
+
+    CursorPage<SaleSummary> saleOrders(String cursor, int size, boolean count);
 
     Sale sale(String id);
 
@@ -5,89 +5,165 @@ import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.FinanceReco
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.OrderStatus;
 import io.github.hossensyedriadh.inventrackrestfulservice.enumerator.PaymentStatus;
 import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.Cursor;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.CursorPage;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.FinanceRecordChange;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.ImageRenditions;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.LiveUpdate;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.SaleSummary;
 import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.*;
 import io.github.hossensyedriadh.inventrackrestfulservice.service.CurrentAuthenticationContext;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.CursorPaging;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.dashboard.DashboardService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.live.LiveUpdateService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.misc.ReferenceDataCache;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.outbox.OutboxService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.product.ProductImageCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class SaleServiceImpl implements SaleService {
     private final SaleRepository saleRepository;
     private final SaleItemRepository saleItemRepository;
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
-    private final ProductImageRepository productImageRepository;
-    private final FinanceRepository financeRepository;
+    private final ProductImageCache productImageCache;
     private final PaymentMethodRepository paymentMethodRepository;
     private final DeliveryMediumRepository deliveryMediumRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final DashboardService dashboardService;
+    private final LiveUpdateService liveUpdateService;
+    private final OutboxService outboxService;
     private final CurrentAuthenticationContext authenticationContext;
+    private final CursorPaging cursorPaging;
     private final HttpServletRequest httpServletRequest;
-    private final ExecutorService executorService;
+    private final Counter salesCounter;
+    private final Counter stockDecrementCounter;
+    private final Counter stockRestorationCounter;
 
     @Autowired
     public SaleServiceImpl(SaleRepository saleRepository, SaleItemRepository saleItemRepository,
                            CustomerRepository customerRepository, ProductRepository productRepository,
-                           ProductImageRepository productImageRepository, FinanceRepository financeRepository,
+                           ProductImageCache productImageCache,
                            PaymentMethodRepository paymentMethodRepository, DeliveryMediumRepository deliveryMediumRepository,
-                           CurrentAuthenticationContext authenticationContext, HttpServletRequest httpServletRequest) {
+                           ReferenceDataCache referenceDataCache, DashboardService dashboardService,
+                           LiveUpdateService liveUpdateService, OutboxService outboxService,
+                           CurrentAuthenticationContext authenticationContext, CursorPaging cursorPaging,
+                           HttpServletRequest httpServletRequest, MeterRegistry meterRegistry) {
         this.saleRepository = saleRepository;
         this.saleItemRepository = saleItemRepository;
         this.customerRepository = customerRepository;
         this.productRepository = productRepository;
-        this.productImageRepository = productImageRepository;
-        this.financeRepository = financeRepository;
+        this.productImageCache = productImageCache;
         this.paymentMethodRepository = paymentMethodRepository;
         this.deliveryMediumRepository = deliveryMediumRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.dashboardService = dashboardService;
+        this.liveUpdateService = liveUpdateService;
+        this.outboxService = outboxService;
         this.authenticationContext = authenticationContext;
+        this.cursorPaging = cursorPaging;
         this.httpServletRequest = httpServletRequest;
 
-        this.executorService = Executors.newFixedThreadPool(3);
+        this.salesCounter = Counter.builder("inventrack.sales").description("Sale orders recorded")
+                .register(meterRegistry);
+        this.stockDecrementCounter = Counter.builder("inventrack.stock.decrements").description("Product units taken out of stock by sales")
+                .baseUnit("units").register(meterRegistry);
+        this.stockRestorationCounter = Counter.builder("inventrack.stock.restorations")
+                .description("Product units returned to stock by edited or cancelled sales").baseUnit("units").register(meterRegistry);
+    }
+
+    private void publishStock(List<Product> products) {
+        products.forEach(product -> this.liveUpdateService.publish(LiveUpdate.stockChanged(product.getId(), product.getStock())));
+    }
+
+    // counts only what was committed, a rolled back sale never took units out of stock
+    private void countAfterCommit(int sales, int unitsTaken, int unitsRestored) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    count(sales, unitsTaken, unitsRestored);
+                }
+            });
+        } else {
+            this.count(sales, unitsTaken, unitsRestored);
+        }
+    }
+
+    private void count(int sales, int unitsTaken, int unitsRestored) {
+        this.salesCounter.increment(sales);
+        this.stockDecrementCounter.increment(unitsTaken);
+        this.stockRestorationCounter.increment(unitsRestored);
     }
 
     private List<SaleItem> getSaleItems(String saleId) {
-        return saleItemRepository.findAll().stream()
-                .filter(item -> item.getSale().getId().equals(saleId))
-                .peek(item -> item.getProduct().setImages(this.getProductImages(item.getProduct().getId()))).toList();
+        List<SaleItem> saleItems = saleItemRepository.findSaleItemsBySaleId(saleId);
+        Map<String, List<ImageRenditions>> renditions = this.productImageCache.getAll(saleItems.stream()
+                .map(item -> item.getProduct().getId()).distinct().toList());
+
+        for (SaleItem item : saleItems) {
+            List<ImageRenditions> productRenditions = renditions.get(item.getProduct().getId());
+            item.getProduct().setImages(productRenditions.stream().map(ImageRenditions::getOriginal).toList());
+            item.getProduct().setRenditions(productRenditions);
+        }
+
+        return saleItems;
     }
 
-    private List<String> getProductImages(String productId) {
-        return productImageRepository.findAll().stream()
-                .filter(image -> image.getForProduct().getId().equals(productId))
-                .map(ProductImage::getUrl).toList();
+    @Override
+    public Page<SaleSummary> saleOrders(Pageable pageable) {
+        return saleRepository.findSaleSummaries(pageable);
     }
 
     @Override
-    public Page<Sale> saleOrders(Pageable pageable) {
-        Page<Sale> salePage = saleRepository.findAll(pageable);
-        return new PageImpl<>(salePage.stream().peek(sale ->
-                sale.setProducts(this.getSaleItems(sale.getId()))).toList(), pageable,
-                salePage.getTotalElements());
+    public Page<SaleSummary> saleOrders(Pageable pageable, String customerPhone) {
+        return saleRepository.findSaleSummariesByCustomer(customerPhone, pageable);
     }
 
     @Override
-    public Page<Sale> saleOrders(Pageable pageable, String customerPhone) {
-        Page<Sale> salePage = saleRepository.findSalesByCustomerPhoneNo(pageable, customerPhone);
-        return new PageImpl<>(salePage.stream().peek(sale ->
-                sale.setProducts(this.getSaleItems(sale.getId()))).toList(), pageable,
-                salePage.getTotalElements());
+    public CursorPage<SaleSummary> saleOrders(String cursor, int size, boolean count) {
+        this.cursorPaging.checkPageSize(size);
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<SaleSummary> sales;
+
+        if (cursor == null) {
+            sales = saleRepository.findLatestSaleSummaries(limit);
+        } else {
+            Cursor position = this.cursorPaging.decode(cursor, true);
+            sales = saleRepository.findSaleSummariesBefore(position.getAddedOn(), position.getId(), limit);
+        }
+
+        return new CursorPage<>(sales, size, sale -> new Cursor(sale.getAddedOn(), sale.getId()),
+                count ? saleRepository.count() : null);
     }
 
     @Override
     public Sale sale(String id) {
-        if (saleRepository.findById(id).isPresent()) {
-            Sale sale = saleRepository.findById(id).get();
+        Optional<Sale> existingSale = saleRepository.findById(id);
+
+        if (existingSale.isPresent()) {
+            Sale sale = existingSale.get();
             sale.setProducts(this.getSaleItems(sale.getId()));
             return sale;
         }
@@ -96,18 +172,21 @@ public class SaleServiceImpl implements SaleService {
     }
 
     @Override
+    @Transactional
     public Sale add(Sale sale) {
         if (sale.getOrderStatus() != OrderStatus.CANCELLED) {
-            if (customerRepository.findById(sale.getCustomer().getPhoneNo()).isEmpty()) {
+            if (!customerRepository.existsById(sale.getCustomer().getPhoneNo())) {
                 customerRepository.saveAndFlush(sale.getCustomer());
             }
 
-            if (paymentMethodRepository.findById(sale.getPaymentMethod().getName()).isEmpty()) {
+            if (!referenceDataCache.containsPaymentMethod(sale.getPaymentMethod().getName())) {
                 paymentMethodRepository.saveAndFlush(sale.getPaymentMethod());
+                referenceDataCache.invalidate();
             }
 
-            if (deliveryMediumRepository.findById(sale.getDeliveryMedium().getName()).isEmpty()) {
+            if (!referenceDataCache.containsDeliveryMedium(sale.getDeliveryMedium().getName())) {
                 deliveryMediumRepository.saveAndFlush(sale.getDeliveryMedium());
+                referenceDataCache.invalidate();
             }
 
             if (sale.getPaymentStatus() == PaymentStatus.PARTIAL) {
@@ -133,18 +212,18 @@ public class SaleServiceImpl implements SaleService {
             for (int i = 0; i < saleItems.size(); i += 1) {
                 String currentProductId = sale.getProducts().get(i).getProduct().getId();
 
-                if (productRepository.findById(currentProductId).isPresent()) {
-                    Product product = productRepository.findById(currentProductId).get();
+                Optional<Product> existingProduct = productRepository.findById(currentProductId);
+
+                if (existingProduct.isPresent()) {
+                    Product product = existingProduct.get();
                     if (product.getStock() >= saleItems.get(i).getQuantity()) {
                         product.setStock(product.getStock() - saleItems.get(i).getQuantity());
                         soldProducts.add(product);
                     } else {
-                        saleRepository.deleteById(addedSale.getId());
                         throw new ResourceException("Not enough stock for product ID: " + product.getId(),
                                 HttpStatus.BAD_REQUEST, httpServletRequest);
                     }
                 } else {
-                    saleRepository.deleteById(addedSale.getId());
                     throw new ResourceException("Product not found with ID: " + currentProductId,
                             HttpStatus.BAD_REQUEST, httpServletRequest);
                 }
@@ -153,16 +232,15 @@ public class SaleServiceImpl implements SaleService {
             saleItemRepository.saveAllAndFlush(saleItems);
             productRepository.saveAllAndFlush(soldProducts);
 
-            this.executorService.submit(() -> {
-                var today = LocalDateTime.now(ZoneId.systemDefault());
-                FinanceRecord record = new FinanceRecord();
-                record.setYear(today.getYear());
-                record.setMonth(today.getMonthValue());
-                record.setSale(addedSale);
-                record.setType(FinanceRecordType.SALE);
-                record.setValue(addedSale.getTotalPayable());
-                financeRepository.saveAndFlush(record);
-            });
+            this.countAfterCommit(1, saleItems.stream().mapToInt(SaleItem::getQuantity).sum(), 0);
+
+            this.liveUpdateService.publish(LiveUpdate.saleAdded(addedSale.getId(), addedSale.getTotalPayable(),
+                    saleItems.stream().mapToInt(SaleItem::getQuantity).sum()));
+            this.publishStock(soldProducts);
+
+            this.outboxService.recordFinanceChange(FinanceRecordChange.sale(addedSale.getId(), addedSale.getTotalPayable(),
+                    LocalDateTime.now(ZoneId.systemDefault())));
+            this.dashboardService.requestRefresh();
 
             addedSale.setProducts(this.getSaleItems(addedSale.getId()));
             return addedSale;
@@ -172,20 +250,24 @@ public class SaleServiceImpl implements SaleService {
     }
 
     @Override
+    @Transactional
     public Sale update(Sale sale) {
-        if (saleRepository.findById(sale.getId()).isPresent()) {
-            Sale existingSale = saleRepository.findById(sale.getId()).get();
+        Optional<Sale> storedSale = saleRepository.findById(sale.getId());
+
+        if (storedSale.isPresent()) {
+            Sale existingSale = storedSale.get();
 
             if (existingSale.getOrderStatus() == OrderStatus.PENDING || existingSale.getOrderStatus() == OrderStatus.CONFIRMED) {
-                List<SaleItem> currentItems = saleItemRepository.findAll().stream()
-                        .filter(item -> item.getSale().getId().equals(existingSale.getId())).toList();
+                List<SaleItem> currentItems = saleItemRepository.findSaleItemsBySaleId(existingSale.getId());
 
-                if (paymentMethodRepository.findById(sale.getPaymentMethod().getName()).isEmpty()) {
+                if (!referenceDataCache.containsPaymentMethod(sale.getPaymentMethod().getName())) {
                     paymentMethodRepository.saveAndFlush(sale.getPaymentMethod());
+                    referenceDataCache.invalidate();
                 }
 
-                if (deliveryMediumRepository.findById(sale.getDeliveryMedium().getName()).isEmpty()) {
+                if (!referenceDataCache.containsDeliveryMedium(sale.getDeliveryMedium().getName())) {
                     deliveryMediumRepository.saveAndFlush(sale.getDeliveryMedium());
+                    referenceDataCache.invalidate();
                 }
 
                 if (sale.getPaymentStatus() == PaymentStatus.PARTIAL) {
@@ -200,20 +282,6 @@ public class SaleServiceImpl implements SaleService {
                     }
                 }
 
-                this.executorService.submit(() -> {
-                    List<FinanceRecord> financeRecords = financeRepository.findAll().stream()
-                            .filter(record -> record.getSale() != null && record.getSale().getId().equals(existingSale.getId())
-                                    && record.getMonth() == existingSale.getAddedOn().getMonthValue()
-                                    && record.getYear() == existingSale.getAddedOn().getYear()
-                                    && record.getType() == FinanceRecordType.SALE).toList();
-
-                    if (!financeRecords.isEmpty()) {
-                        FinanceRecord record = financeRecords.get(0);
-                        record.setValue(sale.getTotalPayable());
-                        financeRepository.saveAndFlush(record);
-                    }
-                });
-
                 if (sale.getOrderStatus() == OrderStatus.CANCELLED) {
                     List<Product> soldProducts = new ArrayList<>(currentItems.size());
 
@@ -225,15 +293,11 @@ public class SaleServiceImpl implements SaleService {
 
                     productRepository.saveAllAndFlush(soldProducts);
                     saleItemRepository.deleteAll(currentItems);
+                    this.countAfterCommit(0, 0, currentItems.stream().mapToInt(SaleItem::getQuantity).sum());
+                    this.publishStock(soldProducts);
 
-                    this.executorService.submit(() -> {
-                        List<FinanceRecord> financeRecords = financeRepository.findAll().stream()
-                                .filter(record -> record.getSale() != null && record.getSale().getId().equals(existingSale.getId())
-                                        && record.getMonth() == existingSale.getAddedOn().getMonthValue()
-                                        && record.getYear() == existingSale.getAddedOn().getYear()
-                                        && record.getType() == FinanceRecordType.SALE).toList();
-                        financeRepository.deleteAll(financeRecords);
-                    });
+                    this.outboxService.recordFinanceChange(FinanceRecordChange.removal(FinanceRecordType.SALE,
+                            existingSale.getId(), existingSale.getAddedOn()));
                 } else {
                     if (sale.getProducts() != null) {
                         if (!sale.getProducts().equals(currentItems)) {
@@ -251,8 +315,10 @@ public class SaleServiceImpl implements SaleService {
 
                             for (SaleItem updatedSaleItem : sale.getProducts()) {
                                 String currentProduct = updatedSaleItem.getProduct().getId();
-                                if (productRepository.findById(currentProduct).isPresent()) {
-                                    Product currentSoldProduct = productRepository.findById(currentProduct).get();
+                                Optional<Product> existingSoldProduct = productRepository.findById(currentProduct);
+
+                                if (existingSoldProduct.isPresent()) {
+                                    Product currentSoldProduct = existingSoldProduct.get();
                                     if (updatedSaleItem.getQuantity() <= currentSoldProduct.getStock()) {
                                         SaleItem saleItem = new SaleItem();
                                         saleItem.setProduct(currentSoldProduct);
@@ -275,22 +341,23 @@ public class SaleServiceImpl implements SaleService {
                             productRepository.saveAllAndFlush(currentSoldProducts);
                             saleItemRepository.saveAllAndFlush(updatedSaleItems);
 
-                            this.executorService.submit(() -> {
-                                FinanceRecord financeRecord = financeRepository.findAll()
-                                        .stream().filter(record -> record.getSale() != null && record.getSale().getId().equals(existingSale.getId())
-                                                && record.getMonth() == existingSale.getAddedOn().getMonthValue()
-                                                && record.getYear() == existingSale.getAddedOn().getYear()
-                                                && record.getType().equals(FinanceRecordType.SALE)).toList().get(0);
-                                financeRecord.setValue(sale.getTotalPayable());
-                                financeRepository.saveAndFlush(financeRecord);
-                            });
+                            // the previous items were put back before the new ones were taken, only the difference moved
+                            int unitsChanged = updatedSaleItems.stream().mapToInt(SaleItem::getQuantity).sum()
+                                    - currentItems.stream().mapToInt(SaleItem::getQuantity).sum();
+                            this.countAfterCommit(0, Math.max(unitsChanged, 0), Math.max(-unitsChanged, 0));
+                            this.publishStock(previousSoldProducts);
+                            this.publishStock(currentSoldProducts);
                         }
+
+                        this.outboxService.recordFinanceChange(FinanceRecordChange.sale(existingSale.getId(),
+                                sale.getTotalPayable(), existingSale.getAddedOn()));
                     } else {
                         throw new ResourceException("Sale record must contain at-least 1 item", HttpStatus.BAD_REQUEST, httpServletRequest);
                     }
                 }
 
                 Sale addedSale = saleRepository.saveAndFlush(sale);
+                this.dashboardService.requestRefresh();
                 addedSale.setProducts(this.getSaleItems(addedSale.getId()));
 
                 return addedSale;
@@ -9,11 +9,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 
 @Service
+@Transactional(readOnly = true)
 public class SupplierServiceImpl implements SupplierService {
     private final SupplierRepository supplierRepository;
     private final CurrentAuthenticationContext authenticationContext;
@@ -40,18 +42,16 @@ public class SupplierServiceImpl implements SupplierService {
 
     @Override
     public Supplier supplier(String phone) {
-        if (supplierRepository.findById(phone).isPresent()) {
-            return supplierRepository.findById(phone).get();
-        }
-
-        throw new ResourceException("Supplier not found with phone: " + phone, HttpStatus.BAD_REQUEST, httpServletRequest);
+        return supplierRepository.findById(phone).orElseThrow(() -> new ResourceException(
+                "Supplier not found with phone: " + phone, HttpStatus.BAD_REQUEST, httpServletRequest));
     }
 
     @Override
+    @Transactional
     public Supplier add(Supplier supplier) {
-        if (supplierRepository.findById(supplier.getPhoneNo()).isEmpty()) {
+        if (!supplierRepository.existsById(supplier.getPhoneNo())) {
             supplier.setAddedBy(this.authenticationContext.getAuthenticatedUser());
-            supplierRepository.saveAndFlush(supplier);
+            return supplierRepository.saveAndFlush(supplier);
         }
 
         throw new ResourceException("Supplier already exists with this phone number: " + supplier.getPhoneNo(),
@@ -59,10 +59,11 @@ public class SupplierServiceImpl implements SupplierService {
     }
 
     @Override
+    @Transactional
     public Supplier update(Supplier supplier) {
-        if (supplierRepository.findById(supplier.getPhoneNo()).isPresent()) {
+        if (supplierRepository.existsById(supplier.getPhoneNo())) {
             supplier.setUpdatedBy(this.authenticationContext.getAuthenticatedUser());
-            supplierRepository.saveAndFlush(supplier);
+            return supplierRepository.saveAndFlush(supplier);
         }
 
         throw new ResourceException("Supplier not found with phone: " + supplier.getPhoneNo(), HttpStatus.BAD_REQUEST, httpServletRequest);
@@ -11,10 +11,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 
 @Service
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final HttpServletRequest httpServletRequest;
@@ -32,16 +34,14 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User user(String username) {
-        if (userRepository.findById(username).isPresent()) {
-            return userRepository.findById(username).get();
-        }
-
-        throw new ResourceException("User not found with username: " + username, HttpStatus.BAD_REQUEST, httpServletRequest);
+        return userRepository.findById(username).orElseThrow(() -> new ResourceException(
+                "User not found with username: " + username, HttpStatus.BAD_REQUEST, httpServletRequest));
     }
 
     @Override
+    @Transactional
     public User update(User user) {
-        if (userRepository.findById(user.getUsername()).isPresent()) {
+        if (userRepository.existsById(user.getUsername())) {
             return userRepository.saveAndFlush(user);
         }
 
@@ -49,24 +49,20 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public User toggleAccess(String username) {
-        if (userRepository.findById(username).isPresent()) {
-            User user = userRepository.findById(username).get();
-            user.setEnabled(!user.isEnabled());
-            return userRepository.saveAndFlush(user);
-        }
-
-        throw new ResourceException("User not found with username: " + username, HttpStatus.BAD_REQUEST, httpServletRequest);
+        User user = userRepository.findById(username).orElseThrow(() -> new ResourceException(
+                "User not found with username: " + username, HttpStatus.BAD_REQUEST, httpServletRequest));
+        user.setEnabled(!user.isEnabled());
+        return userRepository.saveAndFlush(user);
     }
 
     @Override
+    @Transactional
     public User changeUserRole(UserRoleChangeRequest roleChangeRequest) {
-        if (userRepository.findById(roleChangeRequest.getUsername()).isPresent()) {
-            User user = userRepository.findById(roleChangeRequest.getUsername()).get();
-            user.setAuthority(roleChangeRequest.getRole() == InvitedUserAuthority.ROLE_ADMINISTRATOR ? Authority.ROLE_ADMINISTRATOR : Authority.ROLE_MODERATOR);
-            userRepository.saveAndFlush(user);
-        }
-
-        throw new ResourceException("User not found with username: " + roleChangeRequest.getUsername(), HttpStatus.BAD_REQUEST, httpServletRequest);
+        User user = userRepository.findById(roleChangeRequest.getUsername()).orElseThrow(() -> new ResourceException(
+                "User not found with username: " + roleChangeRequest.getUsername(), HttpStatus.BAD_REQUEST, httpServletRequest));
+        user.setAuthority(roleChangeRequest.getRole() == InvitedUserAuthority.ROLE_ADMINISTRATOR ? Authority.ROLE_ADMINISTRATOR : Authority.ROLE_MODERATOR);
+        return userRepository.saveAndFlush(user);
     }
 }
@@ -9,11 +9,18 @@ import javax.servlet.http.HttpServletRequest;
 public class HttpUtils {
     private final HttpServletRequest request;
 
-    private final UserAgent userAgent;
+    private UserAgent userAgent;
 
     public HttpUtils(HttpServletRequest request) {
         this.request = request;
-        this.userAgent = UserAgent.parseUserAgentString(request.getHeader("User-Agent"));
+    }
+
+    private UserAgent getUserAgent() {
+        if (this.userAgent == null) {
+            this.userAgent = UserAgent.parseUserAgentString(request.getHeader("User-Agent"));
+        }
+
+        return this.userAgent;
     }
 
     public String parseClientAddress() {
@@ -41,8 +48,8 @@ public class HttpUtils {
     }
 
     public OperatingSystem getOperatingSystemInfo() {
-        if (this.userAgent.getOperatingSystem() != null) {
-            return this.userAgent.getOperatingSystem();
+        if (this.getUserAgent().getOperatingSystem() != null) {
+            return this.getUserAgent().getOperatingSystem();
         }
         return null;
     }
@@ -59,6 +66,7 @@ public class HttpUtils {
         private final String renderingEngine;
 
         public BrowserInfo() {
+            UserAgent userAgent = getUserAgent();
             this.name = userAgent.getBrowser() != null ? userAgent.getBrowser().getName() : null;
             this.type = userAgent.getBrowser() != null ? userAgent.getBrowser().getBrowserType().getName() : null;
             this.version = userAgent.getBrowserVersion() != null ? userAgent.getBrowserVersion().getVersion() : null;
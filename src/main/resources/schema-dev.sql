@@ -27,14 +27,16 @@ create table product_categories
 
 create table profiles
 (
-    profile_id varchar(36)  not null
+    profile_id       varchar(36)  not null
         primary key,
-    first_name text         not null,
-    last_name  text         not null,
-    email      varchar(150) not null,
-    phone_no   varchar(20)  null,
-    user_since date         not null,
-    avatar     text         null,
+    first_name       text         not null,
+    last_name        text         not null,
+    email            varchar(150) not null,
+    phone_no         varchar(20)  null,
+    user_since       date         not null,
+    avatar           text         null,
+    avatar_thumbnail text         null,
+    avatar_medium    text         null,
     constraint email
         unique (email)
 );
@@ -110,6 +112,9 @@ create index payment_method
 create index updated_by
     on sales (updated_by);
 
+create index added_on_id
+    on sales (added_on, id);
+
 create table saved_codes
 (
     id         varchar(16) not null
@@ -240,6 +245,8 @@ create table product_images
     tag            varchar(36) not null
         primary key,
     static_cdn_url text        not null,
+    thumbnail_url  text        null,
+    medium_url     text        null,
     for_product    varchar(16) not null,
     constraint product_images_ibfk_1
         foreign key (for_product) references products (id)
@@ -269,6 +276,9 @@ create index supplier_reference
 create index updated_by
     on purchase_orders (updated_by);
 
+create index added_on_id
+    on purchase_orders (added_on, id);
+
 create table sale_items
 (
     id       varchar(36) not null
@@ -290,4 +300,20 @@ create index sale_ref
     on sale_items (sale_ref);
 
 create index profile_reference
-    on users (profile_reference);
\ No newline at end of file
+    on users (profile_reference);
+
+create table outbox_messages
+(
+    id           bigint auto_increment
+        primary key,
+    type         varchar(30)   not null,
+    status       varchar(20)   not null,
+    payload      text          not null,
+    attempts     int default 0 not null,
+    last_error   text          null,
+    created_on   timestamp     not null,
+    available_on timestamp     not null
+);
+
+create index status_available_on_id
+    on outbox_messages (status, available_on, id);
\ No newline at end of file
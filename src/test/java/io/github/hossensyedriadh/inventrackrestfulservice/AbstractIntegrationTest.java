@@ -0,0 +1,60 @@
+package io.github.hossensyedriadh.inventrackrestfulservice;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.authentication.bearer_authentication.service.AuthenticatedUserDetails;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.User;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import javax.persistence.EntityManagerFactory;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+
+/**
+ * Boots the application against an in-memory H2 database seeded from {@code test-data.sql}.
+ * The signing keys come from a keystore that is not part of the repository, so they are mocked;
+ * requests authenticate through {@link #authenticated()} instead of a bearer token.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "test"})
+public abstract class AbstractIntegrationTest {
+    protected static final String username = "test_root";
+
+    @MockBean
+    private RSAPrivateKey tokenSigningKey;
+
+    @MockBean
+    private RSAPublicKey tokenValidationKey;
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected RequestPostProcessor authenticated() {
+        User user = this.userRepository.findById(username).orElseThrow();
+        return user(new AuthenticatedUserDetails(user));
+    }
+
+    protected Statistics statistics() {
+        return this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
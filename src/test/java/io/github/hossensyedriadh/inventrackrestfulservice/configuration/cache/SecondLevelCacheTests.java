@@ -0,0 +1,93 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.cache;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.AbstractIntegrationTest;
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource.SqlStatistics;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.User;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.CustomerRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.PaymentMethodRepository;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements are counted on the test thread only, so a dashboard refresh scheduled at startup cannot leak
+ * into the counts the way it would through the session factory's global statistics.
+ */
+class SecondLevelCacheTests extends AbstractIntegrationTest {
+    private static final String email = "root@inventrack.test";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private SqlStatistics sqlStatistics;
+
+    @BeforeEach
+    void setUp() {
+        this.entityManagerFactory.getCache().evictAll();
+        this.statistics().clear();
+        this.sqlStatistics = SqlStatistics.begin(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatistics.end();
+    }
+
+    @Test
+    void repeatedUserReadsAreServedFromTheCache() {
+        User first = this.userRepository.findById(username).orElseThrow();
+        int statements = this.sqlStatistics.getStatements();
+
+        User second = this.userRepository.findById(username).orElseThrow();
+
+        assertThat(second.getProfile().getEmail()).isEqualTo(first.getProfile().getEmail());
+        assertThat(this.sqlStatistics.getStatements()).isEqualTo(statements);
+        assertThat(this.region("users").getMissCount()).isEqualTo(1);
+        assertThat(this.region("users").getHitCount()).isEqualTo(1);
+        assertThat(this.region("profiles").getHitCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void emailLookupsResolveThroughTheNaturalIdCache() {
+        this.userRepository.findByEmail(email).orElseThrow();
+        Statistics statistics = this.statistics();
+        int statements = this.sqlStatistics.getStatements();
+
+        this.userRepository.findByEmail(email).orElseThrow();
+
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(1);
+        // only the user-by-profile query goes to the database, the profile comes from the cache
+        assertThat(this.sqlStatistics.getStatements() - statements).isEqualTo(1);
+    }
+
+    @Test
+    void referenceDataIsReadOnce() {
+        for (int i = 0; i < 3; i += 1) {
+            this.paymentMethodRepository.findById("Cash").orElseThrow();
+            this.customerRepository.findById("+8801800000001").orElseThrow();
+        }
+
+        assertThat(this.region("payment-methods").getMissCount()).isEqualTo(1);
+        assertThat(this.region("payment-methods").getHitCount()).isEqualTo(2);
+        assertThat(this.region("customers").getMissCount()).isEqualTo(1);
+        assertThat(this.region("customers").getHitCount()).isEqualTo(2);
+        assertThat(this.sqlStatistics.getStatements()).isEqualTo(2);
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return this.statistics().getDomainDataRegionStatistics(name);
+    }
+}
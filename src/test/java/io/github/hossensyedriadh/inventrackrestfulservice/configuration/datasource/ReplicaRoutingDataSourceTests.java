@@ -0,0 +1,130 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTests {
+    private static final long maxLagSeconds = 5;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primaryDataSource = node("primary");
+    private final DataSource replicaDataSource = node("replica");
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaWithinTheLagThreshold() {
+        Routing routing = this.routing("select 3 as Seconds_Behind_Source");
+
+        assertThat(routing.readOnly()).isEqualTo("replica");
+        assertThat(routing.readWrite()).isEqualTo("primary");
+        assertThat(routing.withoutTransaction()).isEqualTo("primary");
+        assertThat(this.gauge("inventrack.datasource.replica.lag")).isEqualTo(3);
+        assertThat(this.gauge("inventrack.datasource.replica.available")).isEqualTo(1);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        Routing routing = this.routing("select 12 as Seconds_Behind_Source");
+
+        assertThat(routing.readOnly()).isEqualTo("primary");
+        assertThat(this.gauge("inventrack.datasource.replica.lag")).isEqualTo(12);
+        assertThat(this.gauge("inventrack.datasource.replica.available")).isEqualTo(0);
+    }
+
+    @Test
+    void unknownLagFallsBackToThePrimary() {
+        Routing routing = this.routing("select cast(null as int) as Seconds_Behind_Master");
+
+        assertThat(routing.readOnly()).isEqualTo("primary");
+        assertThat(this.gauge("inventrack.datasource.replica.lag")).isEqualTo(-1);
+    }
+
+    @Test
+    void failingLagQueryFallsBackToThePrimary() {
+        Routing routing = this.routing("select seconds_behind from missing_replication_status");
+
+        assertThat(routing.readOnly()).isEqualTo("primary");
+        assertThat(this.gauge("inventrack.datasource.replica.available")).isEqualTo(0);
+    }
+
+    @Test
+    void recoveredReplicaIsUsedAgain() {
+        JdbcTemplate replica = new JdbcTemplate(this.replicaDataSource);
+        replica.execute("create table replication_status (seconds_behind int)");
+        replica.update("insert into replication_status values (30)");
+
+        Routing routing = this.routing("select seconds_behind as Seconds_Behind_Source from replication_status");
+        assertThat(routing.readOnly()).isEqualTo("primary");
+
+        replica.update("update replication_status set seconds_behind = 0");
+        routing.monitor.checkReplicaLag();
+
+        assertThat(routing.readOnly()).isEqualTo("replica");
+    }
+
+    private Routing routing(String lagQuery) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(this.replicaDataSource, lagQuery, maxLagSeconds, this.meterRegistry);
+        monitor.checkReplicaLag();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(this.primaryDataSource,
+                this.replicaDataSource, monitor));
+
+        return new Routing(monitor, dataSource);
+    }
+
+    private double gauge(String name) {
+        return this.meterRegistry.get(name).gauge().value();
+    }
+
+    private static DataSource node(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(16))");
+        jdbcTemplate.update("insert into node values (?)", name);
+
+        return dataSource;
+    }
+
+    private static final class Routing {
+        private final ReplicaLagMonitor monitor;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+
+        private Routing(ReplicaLagMonitor monitor, DataSource dataSource) {
+            this.monitor = monitor;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+
+        private String readOnly() {
+            this.transactionTemplate.setReadOnly(true);
+            return this.transactionTemplate.execute(status -> this.node());
+        }
+
+        private String readWrite() {
+            this.transactionTemplate.setReadOnly(false);
+            return this.transactionTemplate.execute(status -> this.node());
+        }
+
+        private String withoutTransaction() {
+            return this.node();
+        }
+
+        private String node() {
+            return this.jdbcTemplate.queryForObject("select name from node", String.class);
+        }
+    }
+}
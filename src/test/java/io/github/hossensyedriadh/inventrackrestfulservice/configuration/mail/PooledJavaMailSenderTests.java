@@ -0,0 +1,90 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledJavaMailSenderTests {
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private PooledJavaMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        this.mailSender = new PooledJavaMailSender();
+        this.mailSender.setHost("localhost");
+        this.mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        this.mailSender.setProtocol(ServerSetupTest.SMTP.getProtocol());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mailSender.destroy();
+    }
+
+    @Test
+    void connectionIsReusedAcrossSends() {
+        this.mailSender.send(message(1), message(2));
+        this.mailSender.send(message(3));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(this.mailSender.getOpenConnections()).isEqualTo(1);
+        assertThat(this.mailSender.getIdleConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void connectionsIdleForTooLongAreEvicted() throws InterruptedException {
+        this.mailSender.setMaxIdleMillis(10);
+        this.mailSender.send(message(1));
+
+        TimeUnit.MILLISECONDS.sleep(50);
+        this.mailSender.evictIdle();
+
+        assertThat(this.mailSender.getOpenConnections()).isZero();
+        assertThat(this.mailSender.getIdleConnections()).isZero();
+
+        this.mailSender.send(message(2));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(this.mailSender.getOpenConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void recentlyUsedConnectionsSurviveEviction() {
+        this.mailSender.send(message(1));
+        this.mailSender.evictIdle();
+
+        assertThat(this.mailSender.getOpenConnections()).isEqualTo(1);
+        assertThat(this.mailSender.getIdleConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void connectionDroppedByTheServerIsReplaced() {
+        this.mailSender.send(message(1));
+
+        greenMail.reset();
+        this.mailSender.send(message(2));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(this.mailSender.getOpenConnections()).isEqualTo(1);
+    }
+
+    private static SimpleMailMessage message(int number) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("no-reply.accounts@inventrack.test");
+        message.setTo("user" + number + "@inventrack.test");
+        message.setSubject("Message " + number);
+        message.setText("Message " + number);
+
+        return message;
+    }
+}
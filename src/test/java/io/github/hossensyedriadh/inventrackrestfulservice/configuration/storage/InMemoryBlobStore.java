@@ -0,0 +1,70 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fake object store for tests. Objects are kept in memory; uploads can be slowed down to simulate round trips
+ * and objects can be made to fail the same way a real backend reports failures, by returning {@code null}.
+ */
+public class InMemoryBlobStore implements BlobStore {
+    private static final String baseUrl = "https://objects.test";
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Set<String> failingSuffixes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long latencyMillis;
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void failUploadsEndingWith(String suffix) {
+        this.failingSuffixes.add(suffix);
+    }
+
+    public Map<String, byte[]> getObjects() {
+        return this.objects;
+    }
+
+    public int getMaxConcurrentUploads() {
+        return this.maxInFlight.get();
+    }
+
+    @Override
+    public String upload(@NonNull String folderName, @NonNull String objectName, @NonNull HashMap<String, String> fileMetadata,
+                         @NonNull InputStream inputStream, long contentLength, @Nullable String contentType) {
+        this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+
+        try {
+            byte[] content = inputStream.readAllBytes();
+            TimeUnit.MILLISECONDS.sleep(this.latencyMillis);
+
+            if (this.failingSuffixes.stream().anyMatch(objectName::endsWith)) {
+                return null;
+            }
+
+            String key = folderName + "/" + objectName;
+            this.objects.put(key, content);
+
+            return baseUrl + "/" + key;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            this.inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.controller.resource.v1;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.AbstractIntegrationTest;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.dashboard.DashboardService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the number of JDBC statements each read endpoint issues against the seeded data, as reported by the
+ * {@code X-SQL-Statements} header the SQL budget filter adds in the dev profile. A budget that starts failing
+ * means a query path grew, usually an association that is no longer fetched with its owner.
+ * <p>
+ * Streaming exports are not covered: their headers are written before the first row is read. Endpoints that
+ * answer {@code 204} without a body are not covered either, there is no body to attach the headers to.
+ */
+class StatementCountRegressionTests extends AbstractIntegrationTest {
+    private static final String statementsHeader = "X-SQL-Statements";
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @ParameterizedTest(name = "{0} issues at most {1} statements")
+    @CsvSource({
+            "/v1/profile/who-am-i, 2",
+            "/v1/users/, 3",
+            "/v1/customers/, 2",
+            "/v1/customers/+8801800000001, 1",
+            "/v1/suppliers/, 2",
+            "/v1/suppliers/unpaged, 1",
+            "/v1/suppliers/+8801900000001, 1",
+            "/v1/misc/product-categories, 1",
+            "/v1/misc/payment-methods, 1",
+            "/v1/misc/delivery-mediums, 1",
+            "/v1/products/, 3",
+            "/v1/products/?cursor=&size=10, 2",
+            "/v1/products/unpaged, 2",
+            "/v1/products/pr00000000000001, 2",
+            "/v1/purchases/, 2",
+            "/v1/purchases/?cursor=&size=10, 1",
+            "/v1/purchases/by-supplier?supplier=+8801900000001, 3",
+            "/v1/purchases/po00000000000001, 1",
+            "/v1/sales/, 2",
+            "/v1/sales/?cursor=&size=10, 1",
+            "/v1/sales/?cursor=&size=10&count=true, 2",
+            "/v1/sales/by-customer?customer=+8801800000001, 3",
+            "/v1/sales/sa00000000000001, 3",
+            "/v1/finances/years/, 1",
+            "/v1/finances/costs/, 2",
+            "/v1/finances/costs?year=2022, 2",
+            "/v1/finances/sales/, 2",
+            "/v1/finances/sales?year=2022, 2",
+            "/v1/finances/profits/, 8",
+            "/v1/finances/profits?year=2022, 8",
+            "/v1/finances/roi/, 12",
+            "/v1/finances/roi?year=2022, 10",
+            "/v1/finances/summary/, 12",
+            "/v1/finances/summary?year=2022, 12",
+            "/v1/finances/historical-summary, 12",
+            "/v1/reports/units-sold/, 2",
+            "/v1/reports/units-sold/2022, 2",
+            "/v1/reports/units-sold/2022?month=1, 1",
+            "/v1/reports/purchase-order-count/, 2",
+            "/v1/reports/purchase-order-count/2022, 2",
+            "/v1/reports/purchase-order-count/2022?month=1, 1",
+            "/v1/reports/sale-order-count/, 2",
+            "/v1/reports/sale-order-count/2022, 2",
+            "/v1/reports/sale-order-count/2022?month=1, 1",
+            "/v1/public/check-username/test_root, 1",
+            "/v1/public/check-email/root@inventrack.test, 1"
+    })
+    void endpointStaysWithinItsStatementBudget(String uri, int budget) throws Exception {
+        assertThat(this.statements(uri)).as("statements issued by %s", uri).isLessThanOrEqualTo(budget);
+    }
+
+    @Test
+    void dashboardIsServedFromTheSnapshot() throws Exception {
+        this.dashboardService.refresh();
+
+        assertThat(this.statements("/v1/dashboard")).isZero();
+    }
+
+    private int statements(String uri) throws Exception {
+        MockHttpServletResponse response = this.mockMvc.perform(get(uri).with(this.authenticated()))
+                .andExpect(status().isOk()).andReturn().getResponse();
+
+        assertThat(response.getHeader(statementsHeader)).as("%s header of %s", statementsHeader, uri).isNotNull();
+
+        return Integer.parseInt(response.getHeader(statementsHeader));
+    }
+}
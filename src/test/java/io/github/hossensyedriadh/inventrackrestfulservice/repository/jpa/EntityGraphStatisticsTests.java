@@ -0,0 +1,129 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.AbstractIntegrationTest;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.FinanceRecord;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Product;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Sale;
+import org.hibernate.Hibernate;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EntityGraphStatisticsTests extends AbstractIntegrationTest {
+    private static final String saleId = "sa00000000000001";
+    private static final String productId = "pr00000000000001";
+    private static final String purchaseOrderId = "po00000000000001";
+
+    @Autowired
+    private FinanceRepository financeRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private RequestPostProcessor authentication;
+
+    @BeforeEach
+    void setUp() {
+        this.authentication = this.authenticated();
+        this.statistics().clear();
+    }
+
+    @Test
+    void financeRecordsDoNotLoadTheirAssociations() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            List<FinanceRecord> records = this.financeRepository.findAll();
+
+            assertThat(records).isNotEmpty();
+            assertThat(records).allSatisfy(record -> {
+                assertThat(Hibernate.isInitialized(record.getSale())).isFalse();
+                assertThat(Hibernate.isInitialized(record.getPurchaseOrder())).isFalse();
+            });
+        });
+
+        assertThat(this.statistics().getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void saleDetailGraphFetchesSaleInOneStatement() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            Sale sale = this.saleRepository.findById(saleId).orElseThrow();
+
+            assertThat(Hibernate.isInitialized(sale.getCustomer())).isTrue();
+            assertThat(Hibernate.isInitialized(sale.getPaymentMethod())).isTrue();
+            assertThat(Hibernate.isInitialized(sale.getDeliveryMedium())).isTrue();
+            assertThat(Hibernate.isInitialized(sale.getAddedBy())).isTrue();
+        });
+
+        assertThat(this.statistics().getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void productDetailGraphFetchesThePurchaseOrderUsers() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            Product product = this.productRepository.findById(productId).orElseThrow();
+
+            assertThat(Hibernate.isInitialized(product.getPurchaseOrder())).isTrue();
+            assertThat(Hibernate.isInitialized(product.getPurchaseOrder().getSupplier())).isTrue();
+            assertThat(Hibernate.isInitialized(product.getPurchaseOrder().getAddedBy())).isTrue();
+            assertThat(Hibernate.isInitialized(product.getPurchaseOrder().getAddedBy().getProfile())).isTrue();
+        });
+
+        assertThat(this.statistics().getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void saleEndpoint() throws Exception {
+        this.mockMvc.perform(get("/v1/sales/{id}", saleId).with(this.authentication)).andExpect(status().isOk());
+
+        // sale, its items and their image renditions
+        this.assertStatementsAtMost(3);
+    }
+
+    @Test
+    void salesEndpoint() throws Exception {
+        this.mockMvc.perform(get("/v1/sales/").with(this.authentication)).andExpect(status().isOk());
+
+        // summary page and its count
+        this.assertStatementsAtMost(2);
+    }
+
+    @Test
+    void productEndpoint() throws Exception {
+        this.mockMvc.perform(get("/v1/products/{id}", productId).with(this.authentication)).andExpect(status().isOk());
+
+        // product and its image renditions
+        this.assertStatementsAtMost(2);
+    }
+
+    @Test
+    void purchaseOrderEndpoint() throws Exception {
+        this.mockMvc.perform(get("/v1/purchases/{id}", purchaseOrderId).with(this.authentication))
+                .andExpect(status().isOk());
+
+        this.assertStatementsAtMost(1);
+    }
+
+    private void assertStatementsAtMost(long statements) {
+        Statistics statistics = this.statistics();
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("statements issued, entities loaded: %d, collections fetched: %d",
+                        statistics.getEntityLoadCount(), statistics.getCollectionFetchCount())
+                .isLessThanOrEqualTo(statements);
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.dashboard;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.model.DashboardSnapshot;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.count.CountService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.finance.FinanceService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.report.ReportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardRefreshTests {
+    private static final int callers = 8;
+
+    private final CountService countService = mock(CountService.class);
+
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        when(this.countService.totalSales()).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(200);
+            return 1600d;
+        });
+
+        this.dashboardService = new DashboardServiceImpl(this.countService, mock(FinanceService.class),
+                mock(ReportService.class), mock(ProductRepository.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(this.dashboardService, "maxStalenessMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.dashboardService.shutdown();
+    }
+
+    @Test
+    void concurrentRequestsForAStaleSnapshotRecomputeItOnce() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<DashboardSnapshot>> snapshots = new ArrayList<>(callers);
+
+        try {
+            for (int i = 0; i < callers; i += 1) {
+                snapshots.add(executorService.submit(() -> {
+                    start.await();
+                    return this.dashboardService.snapshot();
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<DashboardSnapshot> snapshot : snapshots) {
+                assertThat(snapshot.get(10, TimeUnit.SECONDS).getVersion()).isEqualTo(1);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(this.countService, times(1)).totalSales();
+    }
+
+    @Test
+    void explicitRefreshesAlwaysRecompute() {
+        this.dashboardService.snapshot();
+        this.dashboardService.refresh();
+
+        verify(this.countService, times(2)).totalSales();
+    }
+}
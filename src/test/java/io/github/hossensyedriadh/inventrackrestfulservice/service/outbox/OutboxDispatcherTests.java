@@ -0,0 +1,85 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.outbox;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.exception.OutboxDispatchException;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.OutboxMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTests {
+    private static final int batchSize = 10;
+
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        this.outboxDispatcher = new OutboxDispatcher(this.outboxService, mock(OutboxMessageRepository.class), this.meterRegistry);
+        ReflectionTestUtils.setField(this.outboxDispatcher, "batchSize", batchSize);
+    }
+
+    @Test
+    void failedBatchIsRetriedOneMessageAtATimeThenInFullBatches() {
+        when(this.outboxService.dispatch(batchSize))
+                .thenThrow(new OutboxDispatchException(List.of(1L, 2L, 3L), new IllegalStateException("rolled back")))
+                .thenReturn(2);
+        when(this.outboxService.dispatch(1)).thenReturn(1);
+
+        this.outboxDispatcher.dispatch();
+
+        InOrder order = inOrder(this.outboxService);
+        order.verify(this.outboxService).dispatch(batchSize);
+        order.verify(this.outboxService).dispatch(1);
+        order.verify(this.outboxService).dispatch(batchSize);
+        verify(this.outboxService, never()).defer(anyLong(), anyString());
+    }
+
+    @Test
+    void onlyTheIsolatedMessageIsDeferred() {
+        when(this.outboxService.dispatch(batchSize))
+                .thenThrow(new OutboxDispatchException(List.of(1L, 2L, 3L), new IllegalStateException("rolled back")))
+                .thenReturn(0);
+        when(this.outboxService.dispatch(1))
+                .thenThrow(new OutboxDispatchException(List.of(2L), new IllegalStateException("constraint violation")));
+
+        this.outboxDispatcher.dispatch();
+
+        verify(this.outboxService).defer(eq(2L), anyString());
+        verify(this.outboxService, never()).defer(eq(1L), anyString());
+        verify(this.outboxService, never()).defer(eq(3L), anyString());
+        assertThat(this.dispatchFailures()).isZero();
+    }
+
+    @Test
+    void failuresNoMessageCanBeBlamedForAreCountedAndNothingIsDeferred() {
+        when(this.outboxService.dispatch(anyInt())).thenThrow(new DataAccessResourceFailureException("database down"));
+
+        this.outboxDispatcher.dispatch();
+
+        verify(this.outboxService).dispatch(batchSize);
+        verify(this.outboxService, never()).defer(anyLong(), anyString());
+        assertThat(this.dispatchFailures()).isEqualTo(1);
+    }
+
+    private double dispatchFailures() {
+        return this.meterRegistry.get("inventrack.outbox.dispatch.failures").counter().count();
+    }
+}
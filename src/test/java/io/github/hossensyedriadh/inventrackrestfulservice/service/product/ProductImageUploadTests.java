@@ -0,0 +1,124 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.product;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage.InMemoryBlobStore;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Product;
+import io.github.hossensyedriadh.inventrackrestfulservice.exception.ResourceException;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductImageRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProductRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.CurrentAuthenticationContext;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.CursorPaging;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.image.ImageRenditionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductImageUploadTests {
+    private static final String productId = "pr00000000000001";
+    private static final long latencyMillis = 300;
+
+    private final InMemoryBlobStore blobStore = new InMemoryBlobStore();
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductImageRepository productImageRepository = mock(ProductImageRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ProductServiceImpl productService;
+
+    @BeforeEach
+    void setUp() {
+        when(this.productRepository.findById(productId)).thenReturn(Optional.of(new Product()));
+        when(this.productImageRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        this.productService = new ProductServiceImpl(this.productRepository, this.productImageRepository,
+                mock(CurrentAuthenticationContext.class), mock(CursorPaging.class), this.blobStore, new MockHttpServletRequest(),
+                mock(PlatformTransactionManager.class), this.meterRegistry, mock(ImageRenditionService.class),
+                mock(ProductImageCache.class));
+        ReflectionTestUtils.setField(this.productService, "uploadDeadlineSeconds", 2L);
+        ReflectionTestUtils.setField(this.productService, "uploadThreads", 4);
+        ReflectionTestUtils.setField(this.productService, "uploadQueueCapacity", 32);
+        this.productService.initialize();
+
+        this.blobStore.setLatencyMillis(latencyMillis);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.productService.shutdown();
+    }
+
+    @Test
+    void imagesAreUploadedInParallel() {
+        long start = System.nanoTime();
+        this.productService.updateImages(productId, images(4));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(this.blobStore.getObjects()).hasSize(4);
+        assertThat(this.blobStore.getMaxConcurrentUploads()).isGreaterThan(1);
+        assertThat(elapsedMillis).isLessThan(4 * latencyMillis);
+        assertThat(this.meterRegistry.get("inventrack.product.image.upload").tag("outcome", "success").timer().count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void existingImagesAreReplacedWhenAllUploadsSucceed() {
+        this.productService.updateImages(productId, images(3));
+
+        verify(this.productImageRepository).deleteAll(any());
+        verify(this.productImageRepository).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void existingImagesAreKeptWhenAnUploadFails() {
+        // object names end with the image's position in the request
+        this.blobStore.failUploadsEndingWith("_2");
+
+        assertThatThrownBy(() -> this.productService.updateImages(productId, images(3)))
+                .isInstanceOf(ResourceException.class)
+                .satisfies(e -> assertThat(((ResourceException) e).getHttpStatus()).isEqualTo(HttpStatus.BAD_GATEWAY));
+
+        verify(this.productImageRepository, never()).deleteAll(any());
+        verify(this.productImageRepository, never()).saveAllAndFlush(anyList());
+        assertThat(this.meterRegistry.get("inventrack.product.image.upload").tag("outcome", "failure").timer().count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void uploadsExceedingTheDeadlineKeepExistingImages() {
+        ReflectionTestUtils.setField(this.productService, "uploadDeadlineSeconds", 0L);
+
+        assertThatThrownBy(() -> this.productService.updateImages(productId, images(2)))
+                .isInstanceOf(ResourceException.class)
+                .satisfies(e -> assertThat(((ResourceException) e).getHttpStatus()).isEqualTo(HttpStatus.BAD_GATEWAY));
+
+        verify(this.productImageRepository, never()).deleteAll(any());
+        verify(this.productImageRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    private static MultipartFile[] images(int count) {
+        MultipartFile[] images = new MultipartFile[count];
+
+        for (int i = 0; i < count; i += 1) {
+            images[i] = new MockMultipartFile("images", "image-" + i + ".jpg", "image/jpeg", new byte[]{(byte) i, 1, 2, 3});
+        }
+
+        return images;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.hossensyedriadh.inventrackrestfulservice.service.profile;
+
+import io.github.hossensyedriadh.inventrackrestfulservice.configuration.storage.BlobStore;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.Profile;
+import io.github.hossensyedriadh.inventrackrestfulservice.entity.User;
+import io.github.hossensyedriadh.inventrackrestfulservice.model.MailMessage;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.ProfileRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.repository.jpa.UserRepository;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.CurrentAuthenticationContext;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.image.ImageRenditionService;
+import io.github.hossensyedriadh.inventrackrestfulservice.service.outbox.OutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfileServiceTests {
+    private static final String username = "test_root";
+    private static final String previousEmail = "root@inventrack.test";
+    private static final String updatedEmail = "admin@inventrack.test";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final CurrentAuthenticationContext currentAuthenticationContext = mock(CurrentAuthenticationContext.class);
+
+    private ProfileServiceImpl profileService;
+
+    @BeforeEach
+    void setUp() {
+        this.profileService = new ProfileServiceImpl(this.userRepository, mock(ProfileRepository.class),
+                mock(PasswordEncoder.class), this.outboxService, this.currentAuthenticationContext,
+                mock(BlobStore.class), mock(ImageRenditionService.class));
+        when(this.currentAuthenticationContext.getAuthenticatedUser()).thenReturn(user(previousEmail));
+    }
+
+    @Test
+    void emailUpdateNotifiesTheOldAndTheNewAddress() {
+        User updatedUser = user(updatedEmail);
+        when(this.userRepository.findById(username)).thenReturn(Optional.of(updatedUser));
+
+        User returnedUser = this.profileService.updateProfile(user(updatedEmail));
+
+        ArgumentCaptor<MailMessage> messages = ArgumentCaptor.forClass(MailMessage.class);
+        verify(this.outboxService, times(2)).sendMail(messages.capture());
+
+        assertThat(messages.getAllValues()).extracting(MailMessage::getRecipient, MailMessage::getTemplate).containsExactly(
+                tuple(previousEmail, "mail/email-update-old-address.html"),
+                tuple(updatedEmail, "mail/email-update-new-address.html"));
+        assertThat(returnedUser).isSameAs(updatedUser);
+    }
+
+    @Test
+    void unchangedEmailSendsNoNotification() {
+        when(this.userRepository.findById(username)).thenReturn(Optional.of(user(previousEmail)));
+
+        this.profileService.updateProfile(user(previousEmail));
+
+        verify(this.outboxService, never()).sendMail(any());
+    }
+
+    private static User user(String email) {
+        Profile profile = new Profile();
+        profile.setEmail(email);
+
+        User user = new User();
+        user.setUsername(username);
+        user.setProfile(profile);
+
+        return user;
+    }
+}
@@ -0,0 +1,37 @@
+insert into inventrack.profiles (profile_id, first_name, last_name, email, phone_no, user_since)
+values ('p0000000000000000001', 'Test', 'Root', 'root@inventrack.test', '+8801700000001', '2022-01-01');
+
+insert into inventrack.users (username, password, is_enabled, authority, is_not_locked, profile_reference)
+values ('test_root', '$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1u9Kx8F3E2n3T9Nw1lM7G6K', true, 'ROLE_ROOT', true, 'p0000000000000000001');
+
+insert into inventrack.customers (name, phone_no, email, address)
+values ('Test Customer', '+8801800000001', 'customer@inventrack.test', 'Dhaka');
+
+insert into inventrack.payment_methods (name) values ('Cash');
+insert into inventrack.delivery_mediums (name) values ('Courier');
+insert into inventrack.product_categories (name) values ('Peripherals');
+
+insert into inventrack.suppliers (name, phone_no, email, address, added_by, added_on)
+values ('Test Supplier', '+8801900000001', 'supplier@inventrack.test', 'Chattogram', 'test_root', '2022-01-02 09:00:00');
+
+insert into inventrack.purchase_orders (id, name, category, quantity, total_purchase_price, shipping_costs, other_costs,
+                                        selling_price, supplier_reference, status, type, product_id, added_by, added_on)
+values ('po00000000000001', 'Keyboard', 'Peripherals', 20, 10000, 500, 0, 800, '+8801900000001', 'IN_STOCK',
+        'NEW_PRODUCT', 'pr00000000000001', 'test_root', '2022-01-03 09:00:00');
+
+insert into inventrack.products (id, name, category, stock, price, purchase_order_ref)
+values ('pr00000000000001', 'Keyboard', 'Peripherals', 18, 800, 'po00000000000001');
+
+insert into inventrack.sales (id, total_payable, total_due, customer, payment_status, payment_method, order_status,
+                              delivery_medium, added_by, added_on)
+values ('sa00000000000001', 1600, 0, '+8801800000001', 'COMPLETED', 'Cash', 'CONFIRMED', 'Courier', 'test_root',
+        '2022-01-04 09:00:00');
+
+insert into inventrack.sale_items (id, product, quantity, price, sale_ref)
+values ('si00000000000001', 'pr00000000000001', 2, 800, 'sa00000000000001');
+
+insert into inventrack.finance_records (month, year, value, record_type, purchase_order_ref)
+values (1, 2022, 10500, 'EXPENSE', 'po00000000000001');
+
+insert into inventrack.finance_records (month, year, value, record_type, sale_order_ref)
+values (1, 2022, 1600, 'SALE', 'sa00000000000001');